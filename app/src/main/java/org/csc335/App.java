@@ -6,6 +6,10 @@ package org.csc335;
 import java.io.IOException;
 
 import org.csc335.controllers.Game;
+import org.csc335.interfaces.AudioBackend;
+import org.csc335.javafx_entity.Audio;
+import org.csc335.javafx_entity.MediaAudioBackend;
+import org.csc335.javafx_entity.NullAudioBackend;
 import org.csc335.navigation.Navigation;
 
 import javafx.application.Application;
@@ -13,10 +17,17 @@ import javafx.scene.text.Font;
 import javafx.stage.Stage;
 
 public class App extends Application {
+  // The value of the audio environment variable that mutes the game.
+  private static final String AUDIO_OFF = "off";
+
   @Override
   public void start(Stage stage) throws IOException {
     Font.loadFont(this.getClass().getResource("/fonts/fa-solid-900.ttf").toExternalForm(), 12);
 
+    // Decode the sounds in the background while the first frame is built.
+    Audio.setBackend(App.audioFromEnvironment());
+    Audio.preload();
+
     stage.setTitle("2048 FX");
     stage.setWidth(900);
     stage.setHeight(800);
@@ -26,6 +37,23 @@ public class App extends Application {
     Navigation.navigate(new Game());
   }
 
+  /**
+   * Picks the audio backend from the audio environment variable. Sounds are
+   * played through the JavaFX media stack unless the variable is set to
+   * {@code off}, or the application runs headless, for instance on the
+   * Monocle platform in continuous integration.
+   *
+   * @return The backend to play the clips with.
+   */
+  private static AudioBackend audioFromEnvironment() {
+    String value = System.getenv("audio");
+    boolean muted = value != null && value.trim().equalsIgnoreCase(AUDIO_OFF);
+    boolean headless = Boolean.getBoolean("java.awt.headless")
+        || "headless".equalsIgnoreCase(System.getProperty("monocle.platform"));
+
+    return muted || headless ? new NullAudioBackend() : new MediaAudioBackend();
+  }
+
   public static void main(String[] args) {
     launch(args);
   }
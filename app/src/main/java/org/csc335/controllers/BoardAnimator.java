@@ -0,0 +1,234 @@
+package org.csc335.controllers;
+
+import org.csc335.engine.Board;
+import org.csc335.engine.MoveResult;
+import org.csc335.entity.TileValue;
+import org.csc335.interfaces.BoardRenderer;
+import org.csc335.models.GameBoardModel;
+
+/**
+ * Animates the tiles of a move sliding from the cells they left to the cells
+ * they ended up in. The animator owns no timer: the board calls
+ * {@link #frame(long)} from the one AnimationTimer that already redraws it, and
+ * every slide of the move is drawn from that single callback.
+ *
+ * <p>
+ * The state of a move is copied into arrays sized for the largest board when
+ * the animator is created, so the animator itself creates no objects per move
+ * or per frame. What a frame costs beyond that is up to the renderer, which
+ * draws tiles from images cached per tile size and only draws an image the
+ * first time its value shows up at that size.
+ * </p>
+ */
+public class BoardAnimator {
+  // How long a slide takes, in nanoseconds.
+  private static final long DURATION = 100_000_000L;
+
+  // The time of a move that has not drawn its first frame yet.
+  private static final long NOT_STARTED = -1;
+
+  private BoardRenderer renderer;
+
+  private int size;
+
+  // The source cell, destination cell and exponent of every sliding tile.
+  private final int[] sources;
+  private final int[] destinations;
+  private final int[] exponents;
+  private int slides;
+
+  // The cells covered by the animation: every cell a tile left, crossed or
+  // slid into, and every other cell the move changed.
+  private long cells;
+
+  // What every covered cell shows underneath the sliding tiles, and what it
+  // shows once they have arrived, indexed by cell.
+  private final int[] stillExponents;
+  private final int[] finalExponents;
+
+  // The time of the first frame of the move, or NOT_STARTED.
+  private long start;
+
+  private boolean running;
+
+  /**
+   * Creates an animator that draws through the given renderer.
+   *
+   * @param renderer the renderer of the board
+   * @param size     the width and height of the board
+   */
+  public BoardAnimator(BoardRenderer renderer, int size) {
+    this.renderer = renderer;
+    this.size = size;
+    this.sources = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.destinations = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.exponents = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.stillExponents = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.finalExponents = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+  }
+
+  /**
+   * Checks whether a move is being animated.
+   *
+   * @return {@code true} if tiles are still sliding, {@code false} otherwise.
+   */
+  public boolean isRunning() {
+    return this.running;
+  }
+
+  /**
+   * Starts animating a move that was just made. The record of the move is read
+   * right away, so the model is free to refill it afterwards.
+   *
+   * @pre No other move is being animated, and the model holds the board left by
+   *      the move.
+   * @post The next frames slide the tiles of the move into place.
+   * @param move  the record of the move
+   * @param model the model of the board after the move
+   */
+  public void start(MoveResult move, GameBoardModel model) {
+    this.slides = 0;
+    this.cells = move.changedCells();
+
+    for (int i = 0; i < move.getSlideCount(); i++) {
+      int source = move.getSource(i);
+      int destination = move.getDestination(i);
+      this.sources[i] = source;
+      this.destinations[i] = destination;
+      this.slides++;
+
+      // A tile only crosses blank cells, which it covers while it slides.
+      int step = destination > source ? 1 : -1;
+      if (Math.abs(destination - source) >= this.size) {
+        step *= this.size;
+      }
+      for (int cell = source; cell != destination; cell += step) {
+        this.cells |= 1L << cell;
+      }
+    }
+
+    for (long rest = this.cells; rest != 0; rest &= rest - 1) {
+      int cell = Long.numberOfTrailingZeros(rest);
+      this.finalExponents[cell] = this.exponentAt(model, cell);
+      this.stillExponents[cell] = 0;
+    }
+
+    for (int i = 0; i < this.slides; i++) {
+      // Both tiles of a merge carried half of the merged value.
+      int destination = this.destinations[i];
+      int exponent = this.finalExponents[destination];
+      this.exponents[i] = move.isMerged(destination) ? exponent - 1 : exponent;
+    }
+
+    for (long rest = move.getMerges(); rest != 0; rest &= rest - 1) {
+      // A merge that only one tile slid into was made with a tile that stayed
+      // in place, which keeps showing until the other one arrives.
+      int cell = Long.numberOfTrailingZeros(rest);
+      if (this.arrivals(cell) == 1) {
+        this.stillExponents[cell] = this.finalExponents[cell] - 1;
+      }
+    }
+
+    this.start = NOT_STARTED;
+    this.running = this.slides > 0;
+  }
+
+  /**
+   * Draws the frame of the move at the given time.
+   *
+   * @post The sliding tiles are drawn where they are at the given time, or the
+   *       covered cells show the board after the move if the slide is over.
+   * @param now the time of the pulse, in nanoseconds
+   *
+   * @return {@code true} if the move needs more frames, {@code false} otherwise.
+   */
+  public boolean frame(long now) {
+    if (!this.running) {
+      return false;
+    }
+
+    if (this.start == NOT_STARTED) {
+      this.start = now;
+    }
+
+    double progress = (double) (now - this.start) / DURATION;
+    if (progress >= 1) {
+      this.finish();
+      return false;
+    }
+
+    // The slide eases out, so tiles land softly in their cells.
+    double eased = 1 - (1 - progress) * (1 - progress);
+
+    this.renderer.clearSliding();
+    this.drawCells(this.stillExponents);
+    for (int i = 0; i < this.slides; i++) {
+      int source = this.sources[i];
+      int destination = this.destinations[i];
+      double row = source / this.size + (destination / this.size - source / this.size) * eased;
+      double col = source % this.size + (destination % this.size - source % this.size) * eased;
+      this.renderer.drawSliding(this.exponents[i], row, col);
+    }
+    return true;
+  }
+
+  /**
+   * Skips to the end of the move being animated, so the next move can start
+   * from a settled board. Nothing is drawn if the move had no frame yet.
+   *
+   * @post No move is being animated, and the board shows where its tiles
+   *       ended up.
+   */
+  public void finish() {
+    if (!this.running) {
+      return;
+    }
+
+    this.running = false;
+    if (this.start != NOT_STARTED) {
+      this.renderer.clearSliding();
+      this.drawCells(this.finalExponents);
+    }
+  }
+
+  /**
+   * Draws every covered cell with the exponent it is given.
+   *
+   * @param exponents the exponent of every cell, indexed by cell
+   */
+  private void drawCells(int[] exponents) {
+    for (long rest = this.cells; rest != 0; rest &= rest - 1) {
+      int cell = Long.numberOfTrailingZeros(rest);
+      this.renderer.drawCell(cell / this.size, cell % this.size, exponents[cell]);
+    }
+  }
+
+  /**
+   * Counts the tiles that slid into the given cell.
+   *
+   * @param cell the index of the cell
+   *
+   * @return The number of slides ending in the cell.
+   */
+  private int arrivals(int cell) {
+    int count = 0;
+    for (int i = 0; i < this.slides; i++) {
+      if (this.destinations[i] == cell) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  /**
+   * Retrieves the exponent that the model holds in the given cell.
+   *
+   * @param model the model of the board
+   * @param cell  the index of the cell
+   *
+   * @return The exponent of the tile, or 0 if the cell is blank.
+   */
+  private int exponentAt(GameBoardModel model, int cell) {
+    return model.getValue(cell / this.size, cell % this.size).map(TileValue::exponent).orElse(0);
+  }
+}
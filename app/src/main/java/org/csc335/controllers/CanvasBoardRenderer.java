@@ -0,0 +1,84 @@
+package org.csc335.controllers;
+
+import org.csc335.interfaces.BoardRenderer;
+import org.csc335.javafx_entity.TileImageCache;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the whole board into a single {@link Canvas}. A changed cell is redrawn
+ * by copying the image of its tile from the {@link TileImageCache}, so the board
+ * costs one node however many cells it has, with no layout, CSS or effect pass
+ * per tile.
+ */
+public class CanvasBoardRenderer extends Canvas implements BoardRenderer {
+  private double tileSize;
+
+  private double gap;
+
+  // The images of tiles of this size.
+  private TileImageCache images;
+
+  // The top-left corner of every tile drawn between two cells since the last
+  // frame, in pixels.
+  private double[] slidingX;
+  private double[] slidingY;
+  private int sliding;
+
+  /**
+   * Creates a canvas large enough for a board of the given size.
+   *
+   * @param size     the width and height of the board
+   * @param tileSize the width and height of a tile in pixels
+   * @param gap      the gap between two tiles in pixels
+   */
+  public CanvasBoardRenderer(int size, double tileSize, double gap) {
+    super(size * tileSize + (size - 1) * gap, size * tileSize + (size - 1) * gap);
+    this.tileSize = tileSize;
+    this.gap = gap;
+    this.images = TileImageCache.forSize(tileSize);
+    this.slidingX = new double[size * size];
+    this.slidingY = new double[size * size];
+  }
+
+  @Override
+  public void attachTo(GridPane board) {
+    board.add(this, 0, 0);
+  }
+
+  @Override
+  public void drawCell(int row, int col, int exponent) {
+    double x = col * (this.tileSize + this.gap);
+    double y = row * (this.tileSize + this.gap);
+
+    // The rounded corners of the image are transparent, so the tile it
+    // replaces is wiped first.
+    GraphicsContext graphics = this.getGraphicsContext2D();
+    graphics.clearRect(x, y, this.tileSize, this.tileSize);
+    graphics.drawImage(this.images.get(exponent), x, y);
+  }
+
+  @Override
+  public void drawSliding(int exponent, double row, double col) {
+    double x = col * (this.tileSize + this.gap);
+    double y = row * (this.tileSize + this.gap);
+    this.getGraphicsContext2D().drawImage(this.images.get(exponent), x, y);
+
+    this.slidingX[this.sliding] = x;
+    this.slidingY[this.sliding] = y;
+    this.sliding++;
+  }
+
+  @Override
+  public void clearSliding() {
+    // A sliding tile can cover the gap between two cells, which is left
+    // transparent so that the board shows through.
+    GraphicsContext graphics = this.getGraphicsContext2D();
+    for (int i = 0; i < this.sliding; i++) {
+      graphics.clearRect(this.slidingX[i], this.slidingY[i], this.tileSize, this.tileSize);
+    }
+    this.sliding = 0;
+  }
+}
@@ -36,6 +36,16 @@ public class Dialog extends VBox {
   @FXML
   private VBox actionContainer;
 
+  // The transitions that show and hide the dialog, which are created once and
+  // replayed every time the dialog is reused.
+  private FadeTransition showFade;
+  private TranslateTransition showSlide;
+  private FadeTransition hideFade;
+  private TranslateTransition hideSlide;
+
+  // Whether the dialog was shown and not hidden since.
+  private boolean open;
+
   public Dialog(String title, String description) {
     super();
     EZLoader.load(this, Dialog.class); // Load the FXML associated with this Dialog class.
@@ -51,6 +61,51 @@ public class Dialog extends VBox {
                                                                                               // synchronization.
     this.setTitle(title); // Set the title of the dialog using the provided title parameter.
     this.setDescription(description); // Set the description of the dialog using the provided description parameter.
+    this.initTransitions();
+  }
+
+  /**
+   * Creates the transitions that show and hide the dialog.
+   *
+   * @post The dialog fades in over 250 milliseconds while its container slides
+   *       down into place, and fades out over 100 milliseconds while its
+   *       container slides up, after which it is marked as hidden.
+   */
+  private void initTransitions() {
+    // Create a fade transition to gradually change the opacity of the dialog from
+    // 0.0 to 1.0 over 250 milliseconds.
+    this.showFade = new FadeTransition(Duration.millis(250), this);
+    this.showFade.setFromValue(0.0);
+    this.showFade.setToValue(1.0);
+
+    // Create a translate transition to move the dialog container from -50.0 to 0.0
+    // on the Y-axis over 250 milliseconds.
+    this.showSlide = new TranslateTransition(Duration.millis(250), this.dialogContainer);
+    this.showSlide.setFromY(-50.0);
+    this.showSlide.setToY(0.0);
+    // Use an ease-out interpolator for a smooth ending of the transition.
+    this.showSlide.setInterpolator(Interpolator.EASE_OUT);
+
+    // Create a fade transition to smoothly decrease the opacity of the dialog.
+    this.hideFade = new FadeTransition(Duration.millis(100), this);
+    this.hideFade.setFromValue(1.0); // Start with full opacity.
+    this.hideFade.setToValue(0.0); // End with no opacity.
+
+    // Create a translate transition to move the dialog container upwards
+    // off-screen.
+    this.hideSlide = new TranslateTransition(Duration.millis(100), this.dialogContainer);
+    this.hideSlide.setToY(-50.0); // Move the dialog 50 pixels upwards.
+    this.hideSlide.setFromY(0.0); // Start from the original position.
+    this.hideSlide.setInterpolator(Interpolator.EASE_OUT); // Use an ease-out interpolator for smooth animation.
+
+    // Set an event handler to mark the dialog as hidden after the translation is
+    // complete.
+    this.hideSlide.setOnFinished(new EventHandler<ActionEvent>() {
+      @Override
+      public void handle(ActionEvent event) {
+        Dialog.this.model.setHidden(true); // Hide the dialog after the animation finishes.
+      }
+    });
   }
 
   /**
@@ -116,25 +171,18 @@ public class Dialog extends VBox {
    *       opacity and its container is at the intended on-screen position.
    */
   public void show() {
-    // Notify all registered listeners that the dialog is being shown.
-    this.model.setHidden(false);
+    this.open = true;
 
-    // Create a fade transition to gradually change the opacity of the dialog from
-    // 0.0 to 1.0 over 250 milliseconds.
-    FadeTransition ft = new FadeTransition(Duration.millis(250), this);
-    ft.setFromValue(0.0);
-    ft.setToValue(1.0);
+    // A dialog shown again before it was fully hidden stays on screen.
+    this.hideFade.stop();
+    this.hideSlide.stop();
 
-    // Create a translate transition to move the dialog container from -50.0 to 0.0
-    // on the Y-axis over 250 milliseconds.
-    TranslateTransition tt = new TranslateTransition(Duration.millis(250), this.dialogContainer);
-    tt.setFromY(-50.0);
-    tt.setToY(0.0);
-    tt.setInterpolator(Interpolator.EASE_OUT); // Use an ease-out interpolator for a smooth ending of the transition.
+    // Notify all registered listeners that the dialog is being shown.
+    this.model.setHidden(false);
 
     // Start the translation and fade transitions simultaneously.
-    tt.play();
-    ft.play();
+    this.showSlide.playFromStart();
+    this.showFade.playFromStart();
   }
 
   /**
@@ -149,31 +197,24 @@ public class Dialog extends VBox {
    * @post The dialog is smoothly animated out of view and marked as hidden.
    */
   public void hide() {
-    // Create a fade transition to smoothly decrease the opacity of the dialog.
-    FadeTransition ft = new FadeTransition(Duration.millis(100), this);
-    ft.setFromValue(1.0); // Start with full opacity.
-    ft.setToValue(0.0); // End with no opacity.
-
-    // Create a translate transition to move the dialog container upwards
-    // off-screen.
-    TranslateTransition tt = new TranslateTransition(Duration.millis(100), this.dialogContainer);
-    tt.setToY(-50.0); // Move the dialog 50 pixels upwards.
-    tt.setFromY(0.0); // Start from the original position.
-    tt.setInterpolator(Interpolator.EASE_OUT); // Use an ease-out interpolator for smooth animation.
-
-    // Set an event handler to mark the dialog as hidden after the translation is
-    // complete.
-    tt.setOnFinished(new EventHandler<ActionEvent>() {
-      @Override
-      public void handle(ActionEvent event) {
-        Dialog.this.model.setHidden(true); // Hide the dialog after the animation finishes.
-      }
-    });
+    this.open = false;
+    this.showFade.stop();
+    this.showSlide.stop();
 
     // Play the translation transition.
-    tt.play();
+    this.hideSlide.playFromStart();
     // Play the fade transition simultaneously.
-    ft.play();
+    this.hideFade.playFromStart();
+  }
+
+  /**
+   * Checks whether the dialog was shown and not hidden since, including while it
+   * is still fading in.
+   *
+   * @return {@code true} if the dialog is open, {@code false} otherwise.
+   */
+  public boolean isOpen() {
+    return this.open;
   }
 
   /**
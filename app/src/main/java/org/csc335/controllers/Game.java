@@ -42,6 +42,11 @@ public final class Game extends StackPane {
 
   private GameModel model;
 
+  // The dialogs, which are built the first time they are needed and reused
+  // from then on, so that showing one again parses no FXML.
+  private GameOverDialog gameOverDialog;
+  private NewGameDialog newGameDialog;
+
   public Game() {
     super();
     EZLoader.load(this, Game.class);
@@ -196,7 +201,9 @@ public final class Game extends StackPane {
   /**
    * Handles the game over scenario by displaying a GameOverDialog to the user.
    * The dialog shows the user's final score and the number of moves made. It
-   * provides options to play again, quit the game, or view the leaderboard. Based
+   * provides options to play again, quit the game, or view the leaderboard. The
+   * dialog is built on the first game over and rebound to the new score on every
+   * later one. Based
    * on the user's selection, the method either resets the game, exits the
    * application, or navigates to the leaderboard screen.
    *
@@ -220,40 +227,64 @@ public final class Game extends StackPane {
       ((Timer) bottomNode).stopTimer();
     }
 
-    // Create a GameOverDialog instance with the current score and moves
-    Dialog dialog = new GameOverDialog(this.scoreboard.getScore(), this.gameBoard.getMoves());
-
-    // Add an action listener to handle user interactions with the dialog
-    dialog.addDialogActionListener(this.createDialogActionListener(dialog, new DialogActionCallback() {
-      @Override
-      public void dialogAction(int childIdx) {
-        // Handle the action based on the index of the pressed button
-        switch (childIdx) {
-          case PLAY_AGAIN:
-            // Reset the game state and hide the dialog
-            Game.this.resetGame();
-            dialog.hide();
-            break;
-          case QUIT_GAME:
-            // Exit the application
-            System.exit(0);
-            break;
-          case VIEW_LEADERBOARD:
-            // Navigate to the Leaderboard view
-            Navigation.navigate(new Leaderboard());
-            break;
+    // Show the current score and moves in the dialog left by the last game over.
+    if (this.gameOverDialog != null) {
+      this.gameOverDialog.setResult(this.scoreboard.getScore(), this.gameBoard.getMoves());
+    } else {
+      // Create a GameOverDialog instance with the current score and moves
+      GameOverDialog dialog = new GameOverDialog(this.scoreboard.getScore(), this.gameBoard.getMoves());
+
+      // Add an action listener to handle user interactions with the dialog
+      dialog.addDialogActionListener(this.createDialogActionListener(dialog, new DialogActionCallback() {
+        @Override
+        public void dialogAction(int childIdx) {
+          // Handle the action based on the index of the pressed button
+          switch (childIdx) {
+            case PLAY_AGAIN:
+              // Reset the game state and hide the dialog
+              Game.this.resetGame();
+              dialog.hide();
+              break;
+            case QUIT_GAME:
+              // Exit the application
+              System.exit(0);
+              break;
+            case VIEW_LEADERBOARD:
+              // Navigate to the Leaderboard view
+              Navigation.navigate(new Leaderboard());
+              break;
+          }
         }
-      }
-    }));
+      }));
+      this.gameOverDialog = dialog;
+    }
 
     // Add the current score to the leaderboard
     Leaderboard.addLeaderboardScore(Game.this.scoreboard.getScore());
 
     // Display the GameOverDialog
+    this.showDialog(this.gameOverDialog);
+  }
+
+  /**
+   * Displays a dialog on top of the game. A dialog that is already open is left
+   * as it is, since rebinding its contents was all it needed.
+   *
+   * @post The dialog is open and is one of the game's children.
+   * @param dialog the dialog to display
+   */
+  private void showDialog(Dialog dialog) {
+    if (dialog.isOpen()) {
+      return;
+    }
+
     dialog.show();
 
-    // Add the dialog to the game's children for rendering
-    Game.this.getChildren().add(dialog);
+    // Add the dialog to the game's children for rendering, unless it is still
+    // there because it was shown again before it was fully hidden.
+    if (!this.getChildren().contains(dialog)) {
+      this.getChildren().add(dialog);
+    }
   }
 
   /**
@@ -343,22 +374,27 @@ public final class Game extends StackPane {
   public void newGame() {
     final int START_NEW_GAME = 0; // Constant representing the action to start a new game
     final int CANCEL = 1; // Constant representing the action to cancel the dialog
-    Dialog newGameDialog = new NewGameDialog(); // Create a new game dialog instance
-    newGameDialog.addDialogActionListener(this.createDialogActionListener(newGameDialog, new DialogActionCallback() {
-      public void dialogAction(int childIdx) {
-        switch (childIdx) {
-          case START_NEW_GAME: // User chose to start a new game
-            Game.this.resetGame(); // Reset the current game state
-            newGameDialog.hide(); // Hide the dialog after starting the game
-            break;
-          case CANCEL: // User chose to cancel the dialog
-            newGameDialog.hide(); // Hide the dialog without taking any action
-            break;
+
+    // The dialog is built the first time and reused from then on.
+    if (this.newGameDialog == null) {
+      NewGameDialog newGameDialog = new NewGameDialog(); // Create a new game dialog instance
+      newGameDialog.addDialogActionListener(this.createDialogActionListener(newGameDialog, new DialogActionCallback() {
+        public void dialogAction(int childIdx) {
+          switch (childIdx) {
+            case START_NEW_GAME: // User chose to start a new game
+              Game.this.resetGame(); // Reset the current game state
+              newGameDialog.hide(); // Hide the dialog after starting the game
+              break;
+            case CANCEL: // User chose to cancel the dialog
+              newGameDialog.hide(); // Hide the dialog without taking any action
+              break;
+          }
         }
-      }
-    }));
-    newGameDialog.show(); // Display the new game dialog to the user
+      }));
+      this.newGameDialog = newGameDialog;
+    }
 
-    this.getChildren().add(newGameDialog); // Add the dialog to the game's child components
+    // Display the new game dialog to the user
+    this.showDialog(this.newGameDialog);
   }
 }
@@ -1,9 +1,12 @@
 package org.csc335.controllers;
 
-import java.util.Optional;
-
+import org.csc335.engine.Board;
+import org.csc335.engine.DirectionQueue;
+import org.csc335.engine.MoveResult;
 import org.csc335.entity.Direction;
 import org.csc335.entity.TileValue;
+import org.csc335.interfaces.BoardChangeListener;
+import org.csc335.interfaces.BoardRenderer;
 import org.csc335.interfaces.GameBoardListener;
 import org.csc335.interfaces.Resettable;
 import org.csc335.models.GameBoardModel;
@@ -11,7 +14,10 @@ import org.csc335.navigation.Navigation;
 import org.csc335.util.EZLoader;
 import org.csc335.util.Logger;
 
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
 import javafx.event.EventHandler;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.GridPane;
 
@@ -20,19 +26,117 @@ import javafx.scene.layout.GridPane;
  */
 public class GameBoard extends GridPane implements Resettable {
 
-  // Define the size of the game board (e.g., 4x4 for a standard 2048 game).
-  private static final int SIZE = 4;
+  // The size of a standard 2048 game board (4x4).
+  private static final int DEFAULT_SIZE = 4;
+
+  // The width and height of the board in pixels, as set in GameBoard.css.
+  private static final double BOARD_PIXELS = 500;
+
+  // The padding around the tiles and the gap between them, as set in
+  // GameBoard.fxml.
+  private static final double GAP_PIXELS = 10;
+
+  // The value of the "engine" environment variable that runs the game on a
+  // thread of its own.
+  private static final String ENGINE_THREAD = "thread";
+
+  // The values of the "renderer" environment variable that pick a renderer.
+  private static final String TILE_RENDERER = "tiles";
+  private static final String CANVAS_RENDERER = "canvas";
+
+  // The number of moves that can wait for the next pulse.
+  private static final int INPUT_CAPACITY = 16;
+
+  // The shortest time between two moves made by holding a key down, in
+  // nanoseconds, which allows 15 moves a second.
+  private static final long REPEAT_INTERVAL = 1_000_000_000L / 15;
+
+  // The largest number of queued moves applied on a single pulse.
+  private static final int MOVES_PER_PULSE = 2;
 
   private GameBoardModel model;
 
-  private Tile[][] tiles;
+  // The moves pressed since the last pulse, applied in order on the next ones.
+  private DirectionQueue input;
+
+  // The key that is held down, whose next presses are repeats, or null.
+  private KeyCode heldKey;
+
+  private BoardRenderer renderer;
+
+  private BoardAnimator animator;
+
+  private int size;
+
+  // Redraws the tiles on the next pulse once the model has changed, and then
+  // drives the animation of the last move for as long as it lasts. Every move
+  // made before that pulse is folded into the same redraw.
+  private AnimationTimer renderPulse;
+
+  // Whether the model changed since the tiles were last redrawn.
+  private boolean renderPending;
 
   public GameBoard() {
+    this(GameBoard.sizeFromEnvironment());
+  }
+
+  /**
+   * Creates a game board with the given number of tiles in every row and every
+   * column.
+   *
+   * @param size the width and height of the board, from {@link Board#MIN_SIZE}
+   *             to {@link Board#MAX_SIZE}
+   * @throws IllegalArgumentException if the size is not supported.
+   */
+  public GameBoard(int size) {
     EZLoader.load(this, GameBoard.class);
-    this.model = new GameBoardModel(SIZE);
+    this.size = size;
+    this.model = new GameBoardModel(size);
+    this.input = new DirectionQueue(INPUT_CAPACITY, REPEAT_INTERVAL);
+
+    this.renderPulse = new AnimationTimer() {
+      @Override
+      public void handle(long now) {
+        GameBoard.this.drainInput();
+        GameBoard.this.flushRender(now);
+      }
+    };
 
     this.initializeTiles();
     this.initEventListeners();
+
+    String engine = System.getenv("engine");
+    if (engine != null && engine.trim().equalsIgnoreCase(ENGINE_THREAD)) {
+      // Snapshots published by the engine thread are applied on the next pulse
+      // of the JavaFX application thread.
+      this.model.startEngineThread(Platform::runLater);
+    }
+  }
+
+  /**
+   * Reads the size of the board from the "size" environment variable, which
+   * allows playing on boards from 3x3 to 8x8. The standard 4x4 board is used if
+   * the variable is missing or does not hold a supported size.
+   *
+   * @return The width and height of the board.
+   */
+  private static int sizeFromEnvironment() {
+    String value = System.getenv("size");
+    if (value == null) {
+      return DEFAULT_SIZE;
+    }
+
+    try {
+      int size = Integer.parseInt(value.trim());
+      if (size >= Board.MIN_SIZE && size <= Board.MAX_SIZE) {
+        return size;
+      }
+    } catch (NumberFormatException e) {
+      // Fall through to the default size below.
+    }
+
+    Logger.println("Unsupported board size: " + value);
+    return DEFAULT_SIZE;
   }
 
   /**
@@ -76,22 +180,15 @@ public class GameBoard extends GridPane implements Resettable {
    * <ul>
    * <li>Determines the direction based on the key pressed.</li>
    * <li>Logs the key press for debugging purposes.</li>
-   * <li>Shifts the tiles in the specified direction and checks if any tiles
-   * moved.</li>
-   * <li>Updates the list of blank tiles to determine if the game is over.</li>
-   * <li>If tiles moved, generates a new random tile.</li>
-   * <li>Checks if the game has ended if there is only one blank tile
-   * remaining.</li>
-   * <li>Logs additional information and prints the final game board state if the
-   * game ends.</li>
-   * <li>Notifies the game board that the game is over.</li>
-   * <li>Prints the current state of the game board after the key press.</li>
+   * <li>Tells a fresh press from a repeat of the key being held down.</li>
+   * <li>Queues the move, which the next pulses apply in order.</li>
    * </ul>
    *
    * <p>
    * For key release events:
    * <ul>
    * <li>Logs the key release for debugging purposes.</li>
+   * <li>Forgets the held key, so its next press is a fresh one.</li>
    * </ul>
    *
    * @pre The Navigation node is properly initialized and added to the scene
@@ -122,8 +219,11 @@ public class GameBoard extends GridPane implements Resettable {
         // Log the key press for debugging purposes.
         Logger.printf("PRESSED: %s\n", event.getCode().getName());
 
-        GameBoard.this.model.handleDirection(direction);
-        GameBoard.this.rerenderTiles();
+        // A key that is pressed again before being released is held down, and
+        // the moves it repeats are coalesced by the queue.
+        boolean repeat = event.getCode() == GameBoard.this.heldKey;
+        GameBoard.this.heldKey = event.getCode();
+        GameBoard.this.enqueueMove(direction, repeat);
       }
     });
 
@@ -133,10 +233,83 @@ public class GameBoard extends GridPane implements Resettable {
       public void handle(KeyEvent event) {
         // Log the key release for debugging purposes.
         Logger.printf("RELEASED: %s\n", event.getCode().getName());
+
+        if (event.getCode() == GameBoard.this.heldKey) {
+          GameBoard.this.heldKey = null;
+        }
       }
     });
   }
 
+  /**
+   * Queues a move for the next pulse. If the queue is full, its oldest move is
+   * applied at once to make room, so pressed keys are neither dropped nor
+   * reordered.
+   *
+   * @post The move is queued, coalesced into the previous one if it repeats a
+   *       held key too quickly, and the next pulse is scheduled.
+   * @param direction the direction of the move
+   * @param repeat    whether the move was produced by holding a key down
+   */
+  private void enqueueMove(Direction direction, boolean repeat) {
+    long now = System.nanoTime();
+    if (!this.input.offer(direction, repeat, now)) {
+      this.applyMove(this.input.poll());
+      this.input.offer(direction, repeat, now);
+    }
+    this.renderPulse.start();
+  }
+
+  /**
+   * Applies the oldest queued moves, up to {@link #MOVES_PER_PULSE} of them, so
+   * that a burst of input is spread over several pulses instead of stalling
+   * one of them. Moves queued once keystrokes stopped being recorded, such as
+   * after the end of the game, are discarded.
+   *
+   * @post At most MOVES_PER_PULSE moves were applied, oldest first.
+   */
+  private void drainInput() {
+    for (int i = 0; i < MOVES_PER_PULSE && !this.input.isEmpty(); i++) {
+      if (!this.model.shouldRecordKeystrokes()) {
+        this.input.clear();
+        return;
+      }
+      this.applyMove(this.input.poll());
+    }
+  }
+
+  /**
+   * Applies a move to the model.
+   *
+   * @post The model reflects the move, or will once the engine thread applied
+   *       it.
+   * @param direction the direction of the move
+   */
+  private void applyMove(Direction direction) {
+    // The board redraws itself once the model reports the change, which is
+    // right away unless the engine runs on a thread of its own.
+    this.model.handleDirection(direction);
+  }
+
+  /**
+   * Starts animating a change of the board and schedules its redraw.
+   *
+   * @post A move still sliding was skipped to its end, and the new move slides
+   *       on the next pulses.
+   * @param move the record of the move that changed the board, or null if the
+   *             whole board changed at once
+   */
+  private void boardChanged(MoveResult move) {
+    // A move still sliding is skipped to its end, so the new move starts from a
+    // settled board.
+    this.animator.finish();
+
+    if (move != null && move.isChanged()) {
+      this.animator.start(move, this.model);
+    }
+    this.requestRender();
+  }
+
   /**
    * Adds a {@link GameBoardListener} to the list of listeners that will be
    * notified of changes or events related to the game board.
@@ -163,56 +336,122 @@ public class GameBoard extends GridPane implements Resettable {
    */
   public void reset() {
     this.model.reset();
-    this.rerenderTiles();
+
+    // A move still waiting for the next pulse or still sliding is covered by
+    // this redraw.
+    this.input.clear();
+    this.animator.finish();
+    this.renderPending = false;
+    this.renderPulse.stop();
+    this.rerenderTiles(this.model.takeDirtyCells());
+  }
+
+  /**
+   * Asks for the tiles to be redrawn on the next pulse. Key repeat can deliver
+   * several moves between two pulses, and only the board left by the last of
+   * them is drawn, so cells that changed back and forth touch the scene graph
+   * at most once.
+   *
+   * @post The tiles will be redrawn on the next pulse.
+   */
+  private void requestRender() {
+    if (!this.renderPending) {
+      this.renderPending = true;
+      this.renderPulse.start();
+    }
   }
 
   /**
-   * Rerenders the tiles on the game board by updating each tile's value based on
-   * the current state of the game model. For each tile position, it retrieves the
-   * corresponding value from the model and sets it on the tile. If no value is
-   * present in the model for a given position, the tile is set to blank.
+   * Redraws the tiles if the model changed since they were last drawn, then
+   * draws the current frame of the animated move. Pulses stop once the move has
+   * settled and no move is queued, until the next key press.
+   *
+   * @post The tiles reflect the current state of the game model, apart from the
+   *       ones that are still sliding into place.
+   * @param now the time of the pulse, in nanoseconds
+   */
+  private void flushRender(long now) {
+    if (this.renderPending) {
+      this.renderPending = false;
+      this.rerenderTiles(this.model.takeDirtyCells());
+    }
+
+    if (!this.animator.frame(now) && this.input.isEmpty()) {
+      this.renderPulse.stop();
+    }
+  }
+
+  /**
+   * Rerenders the given tiles on the game board by drawing each tile's value
+   * based on the current state of the game model. For each dirty position, it
+   * retrieves the corresponding value from the model and hands it to the
+   * renderer. If no value is present in the model for a given position, the
+   * tile is drawn blank. Tiles outside the mask are not visited at all.
    *
    * @pre The game model is initialized and contains the current state of the
    *      board.
-   *      The tiles array is properly initialized with Tile objects.
-   * @post Each tile on the board reflects the current value from the game model.
-   *       Tiles with no corresponding value in the model are set to blank.
-   */
-  private void rerenderTiles() {
-    for (int i = 0; i < SIZE; ++i) {
-      for (int j = 0; j < SIZE; ++j) {
-        Tile tile = this.tiles[i][j];
-
-        Optional<TileValue> value = this.model.getValue(i, j);
-        if (value.isPresent()) {
-          tile.setValue(value);
-        } else {
-          tile.makeBlank();
-        }
-      }
+   *      The renderer is attached to the game board.
+   * @post Each given tile on the board reflects the current value from the game
+   *       model. Tiles with no corresponding value in the model are set to blank.
+   * @param cells the mask of tiles to rerender, where bit
+   *              {@code size * row + col} is set for the tile (row, col)
+   */
+  private void rerenderTiles(long cells) {
+    for (long rest = cells; rest != 0; rest &= rest - 1) {
+      int cell = Long.numberOfTrailingZeros(rest);
+      int i = cell / this.size;
+      int j = cell % this.size;
+
+      int exponent = this.model.getValue(i, j).map(TileValue::exponent).orElse(0);
+      this.renderer.drawCell(i, j, exponent);
     }
   }
 
   /**
-   * Initializes the game board tiles by creating a 2D array of Tile objects with
-   * dimensions defined by the constant SIZE. Each tile is instantiated and added
-   * to the game board at its corresponding position. After all tiles are
-   * initialized, the board is rerendered to reflect the new tile setup.
+   * Initializes the game board tiles by creating the renderer chosen at startup
+   * for the dimensions of the board. Its tiles are sized so that the whole grid
+   * fits the board, and placed inside the padding of the game board. After that,
+   * the board is rerendered to reflect the new tile setup.
    *
-   * @post The tiles array is fully populated with Tile objects, and each tile is
-   *       added to the game board at the correct position. The game board is
-   *       rerendered.
+   * @post The renderer is attached to the game board, along with an animator
+   *       drawing through it, and every cell is drawn.
    */
   private void initializeTiles() {
-    this.tiles = new Tile[SIZE][SIZE];
-    for (int i = 0; i < SIZE; ++i) {
-      for (int j = 0; j < SIZE; ++j) {
-        this.tiles[i][j] = new Tile();
-        this.add(this.tiles[i][j], j, i);
+    // The tiles share what is left of the board once the padding on both sides
+    // and the gaps between tiles are taken away.
+    double tileSize = (BOARD_PIXELS - GAP_PIXELS * (this.size + 1)) / this.size;
 
+    this.renderer = this.rendererFromEnvironment(tileSize);
+    this.renderer.attachTo(this);
+    this.animator = new BoardAnimator(this.renderer, this.size);
+    this.model.addBoardChangeListener(new BoardChangeListener() {
+      @Override
+      public void boardChanged(MoveResult move) {
+        GameBoard.this.boardChanged(move);
       }
+    });
+
+    this.rerenderTiles(this.model.takeDirtyCells());
+  }
+
+  /**
+   * Creates the renderer named by the "renderer" environment variable. Setting
+   * it to "canvas" draws the whole board into a single canvas, which scales
+   * better to large boards. Otherwise, every cell is a {@link Tile} control.
+   *
+   * @param tileSize the width and height of a tile in pixels
+   *
+   * @return The renderer of the board.
+   */
+  private BoardRenderer rendererFromEnvironment(double tileSize) {
+    String value = System.getenv("renderer");
+    if (value != null && value.trim().equalsIgnoreCase(CANVAS_RENDERER)) {
+      return new CanvasBoardRenderer(this.size, tileSize, GAP_PIXELS);
     }
 
-    this.rerenderTiles();
+    if (value != null && !value.trim().equalsIgnoreCase(TILE_RENDERER)) {
+      Logger.println("Unsupported renderer: " + value);
+    }
+    return new TileGridRenderer(this.size, tileSize, GAP_PIXELS);
   }
-}
\ No newline at end of file
+}
@@ -10,12 +10,23 @@ import org.csc335.entity.PressableVariant;
  */
 public class GameOverDialog extends Dialog {
   public GameOverDialog(int score, int moves) {
-    super("Game Over!",
-        String.format("You scored %d points in %d moves", score,
-            moves));
+    super("Game Over!", "");
+    this.setResult(score, moves);
 
     this.setActions(new Pressable("Play Again", PressableVariant.FILLED, true),
         new Pressable("Quit Game", PressableVariant.OUTLINED, true),
         new Pressable("View Leaderboard", PressableVariant.OUTLINED, true));
   }
+
+  /**
+   * Shows the outcome of another game, so that the dialog can be reused rather
+   * than built again for every game.
+   *
+   * @post The description of the dialog tells the given score and moves.
+   * @param score the final score of the game
+   * @param moves the number of moves made in the game
+   */
+  public void setResult(int score, int moves) {
+    this.setDescription(String.format("You scored %d points in %d moves", score, moves));
+  }
 }
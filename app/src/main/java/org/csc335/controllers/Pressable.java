@@ -84,7 +84,7 @@ public class Pressable extends Button {
     super(text.toUpperCase());
     this.initializeFields();
     this.initListeners();
-    EZLoader.load(this, Pressable.class);
+    this.build();
     this.setVariant(variant);
     this.setGrow(shouldGrow);
   }
@@ -93,7 +93,19 @@ public class Pressable extends Button {
     super();
     this.initializeFields();
     this.initListeners();
-    EZLoader.load(this, Pressable.class);
+    this.build();
+  }
+
+  /**
+   * Styles the button. Dialogs create a few of them every time they open, so
+   * the button is set up in code rather than parsed from FXML.
+   *
+   * @post The button has the base style class, and the Pressable stylesheet is
+   *       registered.
+   */
+  private void build() {
+    this.getStyleClass().add("btn-base");
+    EZLoader.style(Pressable.class);
   }
 
   /**
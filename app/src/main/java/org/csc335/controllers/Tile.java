@@ -1,17 +1,13 @@
 package org.csc335.controllers;
 
-import javafx.beans.value.ChangeListener;
-import javafx.beans.value.ObservableValue;
-import javafx.fxml.FXML;
-import javafx.scene.control.Label;
-import javafx.scene.effect.BlurType;
-import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.ImageView;
 import javafx.scene.layout.VBox;
-import javafx.scene.paint.Color;
 
 import java.util.Optional;
 
 import org.csc335.entity.TileValue;
+import org.csc335.javafx_entity.TileImageCache;
+import org.csc335.javafx_entity.TileSkin;
 import org.csc335.models.TileModel;
 import org.csc335.util.EZLoader;
 
@@ -19,11 +15,18 @@ import org.csc335.util.EZLoader;
  * A controller class for a Tile in the game of 2048.
  */
 public class Tile extends VBox {
-  @FXML
-  private Label label;
+  private ImageView image;
 
   private TileModel model;
 
+  // The cached images of tiles as wide and high as this one, looked up again
+  // only when the tile is resized.
+  private TileImageCache images;
+
+  // The exponent that the tile's image currently shows, or -1 before the tile
+  // was first rendered at its size.
+  private int renderedExponent;
+
   /**
    * Retrieves the current value of the tile represented as an enum.
    *
@@ -71,7 +74,7 @@ public class Tile extends VBox {
    * @return The integer value representing the number on the tile, or 0 if the
    *         tile is blank.
    */
-  public int getNumericValue() {
+  public long getNumericValue() {
     return this.model.getNumericValue();
   }
 
@@ -93,6 +96,7 @@ public class Tile extends VBox {
    */
   public void setValue(TileValue value) {
     this.model.setValue(value);
+    this.render();
   }
 
   /**
@@ -104,6 +108,7 @@ public class Tile extends VBox {
    */
   public void setValue(Optional<TileValue> value) {
     this.model.setValue(value);
+    this.render();
   }
 
   /**
@@ -119,6 +124,24 @@ public class Tile extends VBox {
    */
   public void setRandomValue() {
     this.model.random();
+    this.render();
+  }
+
+  /**
+   * Resizes the tile to fit a board with more or fewer tiles than the standard
+   * 4x4 board. The tile then shows the cached images drawn at its new size, in
+   * which the number keeps the proportions set by its TileSkin.
+   *
+   * @post The tile is size x size pixels and shows its value at that size.
+   * @param size the width and height of the tile in pixels
+   */
+  public void setSize(double size) {
+    // An inline style takes precedence over the sizes in Tile.css.
+    this.setStyle(String.format("-fx-pref-width: %1$.1f; -fx-pref-height: %1$.1f;", size));
+
+    this.images = TileImageCache.forSize(size);
+    this.renderedExponent = -1;
+    this.render();
   }
 
   /**
@@ -126,6 +149,7 @@ public class Tile extends VBox {
    */
   public void makeBlank() {
     this.model.makeBlank();
+    this.render();
   }
 
   @Override
@@ -152,58 +176,45 @@ public class Tile extends VBox {
 
   public Tile() {
     this.model = new TileModel();
-    EZLoader.load(this, Tile.class);
-    this.setEffect(new InnerShadow(BlurType.GAUSSIAN, Color.GRAY, 2, 0, 0, 1));
-    this.initListeners();
-    this.changeLabelClass();
-    this.changeTileClass();
-  }
+    this.images = TileImageCache.forSize(TileSkin.getDefaultSize());
+    this.renderedExponent = -1;
 
-  /**
-   * Changes the CSS class of the tile based on its value.
-   */
-  private void changeTileClass() {
-    // Remove all existing classes from the tile
-    this.getStyleClass().clear();
-
-    // Add base class to all tiles
+    // A board creates a tile per cell, so its single node is built in code
+    // rather than parsed from FXML every time.
     this.getStyleClass().add("tile-base");
-
-    // If a tile value is present, add the corresponding CSS class
-    if (!Tile.this.model.isBlank()) {
-      this.getStyleClass().add("tile-" + this.model.getValue().get().toString());
-    } else {
-      // If no value is present, add the blank tile class
-      this.getStyleClass().add("tile-blank");
-    }
-
+    this.image = new ImageView();
+    this.getChildren().add(this.image);
+    EZLoader.style(Tile.class);
+    this.render();
   }
 
   /**
-   * Changes the CSS and text of the label based on the current tile value.
+   * Brings the image of the tile in line with its value.
+   * Setting a tile to the value it already shows touches nothing, so the
+   * scene graph only sees the net change of a cell however many times a move
+   * rewrote it.
+   *
+   * @post The tile shows the current value of the tile.
    */
-  private void changeLabelClass() {
-    Tile.this.label.getStyleClass().clear(); // Clear any existing styles on the label
-
-    if (!Tile.this.model.isBlank()) { // Check if there is a tile value present
-      String value = Tile.this.model.getValue().get().toString(); // Convert TileValue to string
-      Tile.this.label.setText(value); // Set the label text to the value
-      Tile.this.label.getStyleClass().add("value-" + value); // Add CSS class based on the value
-    } else {
-      Tile.this.label.setText(""); // If no value, clear the label text
+  private void render() {
+    int exponent = this.exponent();
+    if (exponent == this.renderedExponent) {
+      return;
     }
+
+    // The image of every value is drawn once, with its shadow, so the tile goes
+    // through neither the CSS engine nor an effect pass when it changes.
+    this.image.setImage(this.images.get(exponent));
+    this.renderedExponent = exponent;
   }
 
   /**
-   * Initializes listeners for changes to the tile's value property.
+   * Retrieves the exponent of the tile's value, which indexes the cached tile
+   * images.
+   *
+   * @return The exponent of the tile's value, or 0 if the tile is blank.
    */
-  private void initListeners() {
-    ChangeListener<TileValue> valueListener = new ChangeListener<TileValue>() {
-      public void changed(ObservableValue<? extends TileValue> observable, TileValue oldValue, TileValue newValue) {
-        Tile.this.changeLabelClass();
-        Tile.this.changeTileClass();
-      }
-    };
-    this.model.addListener(valueListener);
+  private int exponent() {
+    return this.model.getValue().map(TileValue::exponent).orElse(0);
   }
-}
\ No newline at end of file
+}
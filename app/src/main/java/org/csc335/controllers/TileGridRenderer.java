@@ -0,0 +1,98 @@
+package org.csc335.controllers;
+
+import org.csc335.entity.TileValue;
+import org.csc335.interfaces.BoardRenderer;
+import org.csc335.javafx_entity.TileImageCache;
+import org.csc335.javafx_entity.TileSkin;
+
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the board as a grid of {@link Tile} controls, one per cell. Tiles on
+ * their way between two cells are drawn by a set of image views laid over the
+ * grid, one per cell, which are hidden while nothing slides.
+ */
+public class TileGridRenderer implements BoardRenderer {
+  private Tile[][] tiles;
+
+  private double tileSize;
+
+  private double gap;
+
+  // The images of tiles of this size, shown by the sliding tiles.
+  private TileImageCache images;
+
+  // The views laid over the grid for sliding tiles, the first ones of which
+  // are in use.
+  private ImageView[] sliding;
+  private int slidingCount;
+
+  /**
+   * Creates a blank tile for every cell of the board.
+   *
+   * @param size     the width and height of the board
+   * @param tileSize the width and height of a tile in pixels
+   * @param gap      the padding around the tiles and the gap between them in
+   *                 pixels
+   */
+  public TileGridRenderer(int size, double tileSize, double gap) {
+    this.tileSize = tileSize;
+    this.gap = gap;
+    this.images = TileImageCache.forSize(tileSize);
+
+    this.sliding = new ImageView[size * size];
+    for (int i = 0; i < this.sliding.length; i++) {
+      // The views are placed by hand rather than by the grid's layout.
+      this.sliding[i] = new ImageView();
+      this.sliding[i].setManaged(false);
+      this.sliding[i].setMouseTransparent(true);
+      this.sliding[i].setVisible(false);
+    }
+
+    this.tiles = new Tile[size][size];
+    for (int i = 0; i < size; ++i) {
+      for (int j = 0; j < size; ++j) {
+        this.tiles[i][j] = new Tile();
+        if (tileSize != TileSkin.getDefaultSize()) {
+          this.tiles[i][j].setSize(tileSize);
+        }
+      }
+    }
+  }
+
+  @Override
+  public void attachTo(GridPane board) {
+    for (int i = 0; i < this.tiles.length; ++i) {
+      for (int j = 0; j < this.tiles[i].length; ++j) {
+        board.add(this.tiles[i][j], j, i);
+      }
+    }
+
+    // Added last, so that sliding tiles are drawn above every cell.
+    board.getChildren().addAll(this.sliding);
+  }
+
+  @Override
+  public void drawCell(int row, int col, int exponent) {
+    // Tiles only restyle themselves when their value differs from the one they
+    // show.
+    this.tiles[row][col].setValue(TileValue.fromExponent(exponent));
+  }
+
+  @Override
+  public void drawSliding(int exponent, double row, double col) {
+    ImageView view = this.sliding[this.slidingCount++];
+    view.setImage(this.images.get(exponent));
+    view.relocate(this.gap + col * (this.tileSize + this.gap), this.gap + row * (this.tileSize + this.gap));
+    view.setVisible(true);
+  }
+
+  @Override
+  public void clearSliding() {
+    for (int i = 0; i < this.slidingCount; i++) {
+      this.sliding[i].setVisible(false);
+    }
+    this.slidingCount = 0;
+  }
+}
@@ -0,0 +1,43 @@
+package org.csc335.interfaces;
+
+import java.net.URL;
+
+import org.csc335.javafx_entity.Audio;
+
+/**
+ * Loads and plays the clips of {@link Audio}. The game only talks to the
+ * backend through {@link Audio}, so simulations and tests can swap the media
+ * stack for a backend that plays nothing.
+ */
+public interface AudioBackend {
+  /**
+   * Loads the clip of an audio, which may take a while. It is called on the
+   * audio thread, at most once per audio.
+   *
+   * @param audio    the audio whose clip to load
+   * @param resource the file of the clip
+   * @param volume   the volume the clip is played at, from 0.0 to 1.0
+   * @param loop     {@code true} if the clip repeats until it is stopped
+   *
+   * @return {@code true} if the clip can be played, {@code false} otherwise.
+   */
+  public boolean load(Audio audio, URL resource, double volume, boolean loop);
+
+  /**
+   * Plays the loaded clip of an audio.
+   *
+   * @pre The clip was loaded.
+   * @param audio  the audio to play
+   * @param volume the volume to play at, from 0.0 to 1.0
+   * @param rate   the playback speed, where 1.0 is the usual speed
+   */
+  public void play(Audio audio, double volume, double rate);
+
+  /**
+   * Stops the loaded clip of an audio if it is playing.
+   *
+   * @pre The clip was loaded.
+   * @param audio the audio to stop
+   */
+  public void stop(Audio audio);
+}
@@ -0,0 +1,7 @@
+package org.csc335.interfaces;
+
+import org.csc335.engine.MoveResult;
+
+public interface BoardChangeListener {
+  public void boardChanged(MoveResult move);
+}
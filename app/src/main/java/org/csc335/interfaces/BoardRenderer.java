@@ -0,0 +1,42 @@
+package org.csc335.interfaces;
+
+import javafx.scene.layout.GridPane;
+
+/**
+ * Draws the cells of a game board. The board tells its renderer which cells
+ * changed, and the renderer decides how they end up on screen.
+ */
+public interface BoardRenderer {
+  /**
+   * Places the nodes that draw the board inside the padding of the given grid.
+   *
+   * @param board the grid of the game board
+   */
+  public void attachTo(GridPane board);
+
+  /**
+   * Draws a cell of the board with the given tile.
+   *
+   * @param row      the row index of the cell (0-based index)
+   * @param col      the column index of the cell (0-based index)
+   * @param exponent the exponent of the tile, or 0 if the cell is blank
+   */
+  public void drawCell(int row, int col, int exponent);
+
+  /**
+   * Draws a tile on its way between two cells, on top of the cells. The
+   * position is counted in cells, so (1.5, 0) is halfway between the first two
+   * cells of the first column.
+   *
+   * @param exponent the exponent of the tile
+   * @param row      the row of the tile, which can fall between two rows
+   * @param col      the column of the tile, which can fall between two columns
+   */
+  public void drawSliding(int exponent, double row, double col);
+
+  /**
+   * Removes every tile drawn by {@link #drawSliding(int, double, double)} since
+   * the last call. The cells underneath are redrawn by the caller.
+   */
+  public void clearSliding();
+}
@@ -0,0 +1,28 @@
+package org.csc335.interfaces;
+
+import org.csc335.javafx_entity.MergeSound;
+
+/**
+ * Plays a sound effect whose loudness and pitch vary, such as the cue of
+ * {@link MergeSound}. The game plays its cues through an
+ * {@link org.csc335.javafx_entity.Audio}, and tests can record them instead.
+ */
+public interface SoundCue {
+  /**
+   * Checks whether the cue would be heard at all, so that callers can skip
+   * preparing one that would not.
+   *
+   * @return {@code true} if the cue is played, {@code false} otherwise.
+   */
+  public boolean isEnabled();
+
+  /**
+   * Plays the cue.
+   *
+   * @pre loudness >= 0, 0.125 <= rate <= 8.0
+   * @param loudness how many times the usual volume to play at
+   * @param rate     the playback speed, where 1.0 is the usual speed and higher
+   *                 rates also raise the pitch
+   */
+  public void play(double loudness, double rate);
+}
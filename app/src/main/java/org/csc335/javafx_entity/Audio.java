@@ -1,15 +1,37 @@
 package org.csc335.javafx_entity;
 
-import java.util.Optional;
+import java.net.URL;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-import javafx.scene.media.AudioClip;
-import javafx.scene.media.MediaException;
+import org.csc335.interfaces.AudioBackend;
 
 /**
  * Represents different audio clips used in the application, including themes
  * and sound effects. Each audio clip is associated with a file path, volume
  * level, and a flag indicating if it is music. The enum provides methods to
  * play audio clips and manage their playback state.
+ *
+ * <p>
+ * Clips are decoded on the audio thread rather than when the enum is first
+ * touched, so the first frame never waits on the media stack. Every clip is
+ * loaded on its first play, or earlier with {@link #preload()}, and stays
+ * silent until it is ready. A clip that cannot be loaded stays silent for good.
+ * </p>
+ *
+ * <p>
+ * Music is stopped, loaded and started on the audio thread alone, so a theme
+ * that is played while it is still loading starts exactly once, as soon as it
+ * is ready.
+ * </p>
+ *
+ * <p>
+ * The clips are played by an {@link AudioBackend}. Until the application
+ * installs one with {@link #setBackend(AudioBackend)}, it is a
+ * {@link NullAudioBackend}, so code that runs the game without its window
+ * never loads a clip nor starts the audio thread.
+ * </p>
  */
 public enum Audio {
 
@@ -19,14 +41,33 @@ public enum Audio {
   MAIN_THEME("/sounds/mainTheme.mp3", 0.05, true),
   MERGE_SOUND("/sounds/mergesound.mp3", 0.15, false);
 
-  private Optional<AudioClip> audioClip;
+  // The thread that loads and plays the clips, created on first use.
+  private static ExecutorService audioThread;
 
-  private boolean isMusic;
+  // Loads and plays the clips.
+  private static volatile AudioBackend backend = new NullAudioBackend();
+
+  // The music that was played last. A theme whose start is overtaken by
+  // another one never starts.
+  private static volatile Audio currentMusic;
+
+  private final String filePath;
+
+  // The volume the clip is played at, from 0.0 to 1.0.
+  private final double volume;
+
+  private final boolean isMusic;
+
+  // Whether the backend could load the clip, or null until the load is done.
+  private volatile Boolean loaded;
+
+  // Whether the clip was queued for loading.
+  private final AtomicBoolean loadRequested;
 
   /**
    * Initializes an Audio object with the specified file path, volume, and type
-   * (music or sound effect).
-   * 
+   * (music or sound effect). The clip itself is only loaded later.
+   *
    * @param filePath The path to the audio file. This should be a valid resource
    *                 path accessible via getClass().getResource().
    * @param volume   The volume level for the audio clip, ranging from 0.0
@@ -34,33 +75,119 @@ public enum Audio {
    * @param isMusic  A flag indicating whether the audio is music (true) or a
    *                 sound effect (false). If true, the audio will loop
    *                 indefinitely.
-   * 
+   *
    * @returns An Audio object configured with the specified audio file, volume,
    *          and type.
    */
   private Audio(String filePath, double volume, boolean isMusic) {
-    try {
-      // Attempt to create an AudioClip from the specified file path.
-      this.audioClip = Optional.of(new AudioClip(this.getClass().getResource(filePath).toExternalForm()));
-      this.isMusic = isMusic;
-
-      // If the AudioClip is successfully created, configure its cycle count and
-      // volume.
-      if (audioClip.isPresent()) {
-        // Set the cycle count to indefinite if it is music, otherwise set it to play
-        // once.
-        if (isMusic) {
-          this.audioClip.get().setCycleCount(AudioClip.INDEFINITE);
-        } else {
-          this.audioClip.get().setCycleCount(1);
-        }
-        // Set the volume of the AudioClip.
-        this.audioClip.get().setVolume(volume);
-      }
-    } catch (MediaException e) {
-      // Handle any MediaException by setting audioClip to null and isMusic to false.
-      this.audioClip = Optional.empty();
-      this.isMusic = false;
+    this.filePath = filePath;
+    this.volume = volume;
+    this.isMusic = isMusic;
+    this.loadRequested = new AtomicBoolean();
+  }
+
+  /**
+   * Replaces the backend that plays the clips, for instance with a
+   * {@link MediaAudioBackend} once the application has a window.
+   *
+   * @pre No clip was played or preloaded yet.
+   * @post Every clip is loaded and played by the given backend.
+   * @param backend the backend to play the clips with
+   */
+  public static void setBackend(AudioBackend backend) {
+    Audio.backend = backend;
+  }
+
+  /**
+   * Checks whether the clips are played at all, which is not the case with a
+   * {@link NullAudioBackend}. Callers can skip preparing a sound that would
+   * not be heard.
+   *
+   * @return {@code true} if the backend plays the clips, {@code false}
+   *         otherwise.
+   */
+  public static boolean isEnabled() {
+    return !(Audio.backend instanceof NullAudioBackend);
+  }
+
+  /**
+   * Retrieves the thread that loads and plays the clips, and starts it if it is
+   * not running yet.
+   *
+   * @return The audio thread.
+   */
+  static synchronized ExecutorService audioThread() {
+    if (Audio.audioThread == null) {
+      Audio.audioThread = Executors.newSingleThreadExecutor(runnable -> {
+        // Sounds must not keep the application alive once its window is closed.
+        Thread thread = new Thread(runnable, "audio");
+        thread.setDaemon(true);
+        return thread;
+      });
+    }
+    return Audio.audioThread;
+  }
+
+  /**
+   * Queues every clip for loading on the audio thread, so that they are ready
+   * by the time they are first played. It returns right away.
+   *
+   * @post Every clip is loaded or queued for loading.
+   */
+  public static void preload() {
+    if (!Audio.isEnabled()) {
+      return;
+    }
+
+    for (Audio audio : Audio.values()) {
+      audio.requestLoad();
+    }
+  }
+
+  /**
+   * Queues the clip for loading on the audio thread, unless it already was.
+   */
+  private void requestLoad() {
+    if (this.loadRequested.compareAndSet(false, true)) {
+      Audio.audioThread().execute(this::load);
+    }
+  }
+
+  /**
+   * Has the backend decode the clip. It runs on the audio thread.
+   *
+   * @post The clip is loaded, or left silent if the file is missing or cannot
+   *       be played.
+   */
+  private void load() {
+    URL resource = this.getClass().getResource(this.filePath);
+    this.loaded = resource != null && Audio.backend.load(this, resource, this.volume, this.isMusic);
+  }
+
+  /**
+   * Stops the music that is playing and starts this one, loading it first if
+   * it was never queued for loading. It runs on the audio thread, after every
+   * load queued before it, so the music is loaded by the time it is started.
+   *
+   * @pre This audio is music.
+   * @post This music is playing, unless another one was played since or it
+   *       cannot be loaded.
+   * @param volume the volume to play at, from 0.0 to 1.0
+   * @param rate   the playback speed, where 1.0 is the usual speed
+   */
+  private void startMusic(double volume, double rate) {
+    // A theme played since takes over, and stops the music itself.
+    if (Audio.currentMusic != this) {
+      return;
+    }
+
+    Audio.forceStop();
+    if (this.loadRequested.compareAndSet(false, true)) {
+      this.load();
+    }
+
+    if (this.loaded == Boolean.TRUE) {
+      Audio.backend.play(this, volume, rate);
     }
   }
 
@@ -72,8 +199,8 @@ public enum Audio {
    */
   private static void forceStop() {
     for (Audio audio : Audio.values()) {
-      if (audio.audioClip.isPresent() && audio.audioClip.get().isPlaying()) {
-        audio.audioClip.get().stop();
+      if (audio.loaded == Boolean.TRUE) {
+        Audio.backend.stop(audio);
       }
 
     }
@@ -89,15 +216,51 @@ public enum Audio {
    * after this method execution.
    *
    * @post Any previously playing music is stopped if the audio clip is music; the
-   *       audioClip is now playing.
+   *       audioClip is now playing, or, if it is not loaded yet, it is queued for
+   *       loading. Music is stopped and started on the audio thread, once it is
+   *       loaded.
    */
   public void play() {
-    if (this.audioClip.isPresent()) {
-      if (this.isMusic) {
-        Audio.forceStop();
-      }
+    this.play(1.0, 1.0);
+  }
+
+  /**
+   * Plays the audio clip louder or quieter and faster or slower than usual, for
+   * instance to make a sound effect stand out. Music is restarted just like
+   * with {@link #play()}.
+   *
+   * @pre loudness >= 0, 0.125 <= rate <= 8.0
+   * @post The audioClip is now playing at the given loudness and rate, or is
+   *       queued for loading if it is not loaded yet.
+   * @param loudness how many times the usual volume to play at, capped at full
+   *                 volume
+   * @param rate     the playback speed, where 1.0 is the usual speed and higher
+   *                 rates also raise the pitch
+   */
+  public void play(double loudness, double rate) {
+    if (!Audio.isEnabled()) {
+      return;
+    }
+
+    double volume = Math.min(this.volume * loudness, 1.0);
+
+    // Checking whether the music is loaded and starting it happen on the audio
+    // thread, where the load itself runs, so that they cannot interleave.
+    if (this.isMusic) {
+      Audio.currentMusic = this;
+      Audio.audioThread().execute(() -> this.startMusic(volume, rate));
+      return;
+    }
+
+    // Stay silent rather than wait for the clip to be decoded.
+    Boolean loaded = this.loaded;
+    if (loaded == null) {
+      this.requestLoad();
+      return;
+    }
 
-      this.audioClip.get().play();
+    if (loaded) {
+      Audio.backend.play(this, volume, rate);
     }
   }
 
@@ -0,0 +1,51 @@
+package org.csc335.javafx_entity;
+
+import java.net.URL;
+
+import org.csc335.interfaces.AudioBackend;
+
+import javafx.scene.media.AudioClip;
+import javafx.scene.media.MediaException;
+
+/**
+ * Plays the clips through the JavaFX media stack, with one {@link AudioClip}
+ * per audio.
+ */
+public class MediaAudioBackend implements AudioBackend {
+  // The loaded clips, indexed by the ordinal of their audio.
+  private final AudioClip[] clips;
+
+  public MediaAudioBackend() {
+    this.clips = new AudioClip[Audio.values().length];
+  }
+
+  @Override
+  public boolean load(Audio audio, URL resource, double volume, boolean loop) {
+    try {
+      AudioClip clip = new AudioClip(resource.toExternalForm());
+
+      // Set the cycle count to indefinite if it is music, otherwise set it to
+      // play once.
+      clip.setCycleCount(loop ? AudioClip.INDEFINITE : 1);
+      clip.setVolume(volume);
+      this.clips[audio.ordinal()] = clip;
+      return true;
+    } catch (MediaException e) {
+      // A clip that cannot be played is left silent.
+      return false;
+    }
+  }
+
+  @Override
+  public void play(Audio audio, double volume, double rate) {
+    this.clips[audio.ordinal()].play(volume, 0.0, rate, 0.0, 0);
+  }
+
+  @Override
+  public void stop(Audio audio) {
+    AudioClip clip = this.clips[audio.ordinal()];
+    if (clip.isPlaying()) {
+      clip.stop();
+    }
+  }
+}
@@ -0,0 +1,91 @@
+package org.csc335.javafx_entity;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.csc335.engine.MoveResult;
+import org.csc335.interfaces.SoundCue;
+
+/**
+ * Dispatches the merge sound of the moves of a game. The game only hands over
+ * the record of every move, and the cue is played later on a thread of its
+ * own, so the media stack never adds to the time a move takes. The merges of
+ * every move made before the cue gets to play are collapsed into that one cue,
+ * which gets louder and higher the more tiles merged.
+ */
+public class MergeSound {
+  // The most merges a cue grows with.
+  private static final int MAX_MERGES = 8;
+
+  // How much louder and faster the cue gets for every merge after the first.
+  private static final double LOUDNESS_STEP = 0.15;
+  private static final double RATE_STEP = 0.05;
+
+  // Runs the cues.
+  private final Executor player;
+
+  // The sound the cues play.
+  private final SoundCue cue;
+
+  // The merges of the moves whose cue was not played yet.
+  private final AtomicInteger pendingMerges;
+
+  /**
+   * Creates a dispatcher that plays {@link Audio#MERGE_SOUND} on the audio
+   * thread, which every game shares with the loading of the clips.
+   */
+  public MergeSound() {
+    this(Audio.audioThread(), new SoundCue() {
+      @Override
+      public boolean isEnabled() {
+        return Audio.isEnabled();
+      }
+
+      @Override
+      public void play(double loudness, double rate) {
+        Audio.MERGE_SOUND.play(loudness, rate);
+      }
+    });
+  }
+
+  /**
+   * Creates a dispatcher that plays the given cue on the given executor.
+   *
+   * @param player runs the cues, away from the thread that applies the moves
+   * @param cue    the sound to play for the merges
+   */
+  public MergeSound(Executor player, SoundCue cue) {
+    this.player = player;
+    this.cue = cue;
+    this.pendingMerges = new AtomicInteger();
+  }
+
+  /**
+   * Schedules the merge sound of a move. Nothing is played for a move without
+   * merges, or at all while the cue is not enabled, and a move made while an
+   * earlier cue is still waiting adds its merges to that cue instead of
+   * scheduling another.
+   *
+   * @post If the move merged tiles, a cue covering them will be played.
+   * @param move the record of the move
+   */
+  public void moved(MoveResult move) {
+    int merges = Long.bitCount(move.getMerges());
+    if (merges == 0 || !this.cue.isEnabled()) {
+      return;
+    }
+
+    // Only the first move since the last cue schedules one.
+    if (this.pendingMerges.getAndAdd(merges) == 0) {
+      this.player.execute(this::playCue);
+    }
+  }
+
+  /**
+   * Plays a single cue for every merge since the last one.
+   */
+  private void playCue() {
+    int merges = Math.min(this.pendingMerges.getAndSet(0), MAX_MERGES);
+    this.cue.play(1.0 + LOUDNESS_STEP * (merges - 1), 1.0 + RATE_STEP * (merges - 1));
+  }
+}
@@ -0,0 +1,27 @@
+package org.csc335.javafx_entity;
+
+import java.net.URL;
+
+import org.csc335.interfaces.AudioBackend;
+
+/**
+ * Plays nothing, without ever touching the media stack. It is the backend of
+ * everything that runs the game without its window, such as tests, benchmarks
+ * and batch simulations.
+ */
+public class NullAudioBackend implements AudioBackend {
+  @Override
+  public boolean load(Audio audio, URL resource, double volume, boolean loop) {
+    return false;
+  }
+
+  @Override
+  public void play(Audio audio, double volume, double rate) {
+    // Nothing to play.
+  }
+
+  @Override
+  public void stop(Audio audio) {
+    // Nothing to stop.
+  }
+}
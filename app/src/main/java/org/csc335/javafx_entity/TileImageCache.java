@@ -0,0 +1,120 @@
+package org.csc335.javafx_entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.csc335.entity.TileValue;
+
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlurType;
+import javafx.scene.effect.InnerShadow;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Keeps a finished image of every tile, with its {@link TileSkin} and its inner
+ * shadow already drawn in, for every tile size in use. Blurring the shadow is
+ * the most expensive part of drawing a tile, and a cached image is blurred
+ * only once, however many cells and frames show it.
+ *
+ * <p>
+ * There is one cache per tile size. A view looks its cache up once, whenever
+ * its tiles change size, and keeps it, so drawing a tile is an array read
+ * rather than a lookup by size.
+ * </p>
+ *
+ * <p>
+ * Images are taken with a snapshot, so they must be requested from the JavaFX
+ * application thread.
+ * </p>
+ */
+public final class TileImageCache {
+  // The cache of every tile size in use.
+  private static final Map<Double, TileImageCache> CACHES = new HashMap<>();
+
+  // The width and height of the tiles in pixels.
+  private final double size;
+
+  // The image of every exponent, index 0 being a blank tile. An image is drawn
+  // the first time it is requested.
+  private final Image[] images;
+
+  /**
+   * Creates an empty cache for tiles of the given size.
+   *
+   * @param size the width and height of the tiles in pixels
+   */
+  private TileImageCache(double size) {
+    this.size = size;
+    this.images = new Image[TileValue.MAX_EXPONENT + 1];
+  }
+
+  /**
+   * Retrieves the cache of the tiles of the given size, creating it if no view
+   * used that size yet.
+   *
+   * @param size the width and height of the tiles in pixels
+   *
+   * @return The cache shared by every view with tiles of that size.
+   */
+  public static TileImageCache forSize(double size) {
+    return CACHES.computeIfAbsent(size, TileImageCache::new);
+  }
+
+  /**
+   * Retrieves the image of a tile holding the given exponent, drawing it if it
+   * was never requested at this size.
+   *
+   * @pre 0 <= exponent <= TileValue.MAX_EXPONENT
+   * @param exponent the exponent of the tile, or 0 for a blank tile
+   *
+   * @return The image of the tile, transparent outside of its rounded corners.
+   */
+  public Image get(int exponent) {
+    if (this.images[exponent] == null) {
+      this.images[exponent] = TileImageCache.draw(TileSkin.of(exponent), this.size);
+    }
+    return this.images[exponent];
+  }
+
+  /**
+   * Draws a tile in the given skin on a canvas of its own, shades its edges and
+   * takes a snapshot of it.
+   *
+   * @param skin the look of the tile
+   * @param size the width and height of the tile in pixels
+   *
+   * @return An image of the tile.
+   */
+  private static Image draw(TileSkin skin, double size) {
+    Canvas canvas = new Canvas(size, size);
+    GraphicsContext graphics = canvas.getGraphicsContext2D();
+
+    double arc = 2 * TileSkin.getCornerRadius();
+    graphics.setFill(skin.getColor());
+    graphics.fillRoundRect(0, 0, size, size, arc, arc);
+
+    // The number keeps the proportions it has on a standard 4x4 board, whose
+    // tiles show it in the font size of their skin.
+    Font font = skin.getFont();
+    graphics.setFont(Font.font(font.getFamily(), FontWeight.BOLD, font.getSize() * size / TileSkin.getDefaultSize()));
+    graphics.setFill(skin.getTextFill());
+    graphics.setTextAlign(TextAlignment.CENTER);
+    graphics.setTextBaseline(VPos.CENTER);
+    graphics.fillText(skin.getText(), size / 2, size / 2);
+
+    // The shadow follows the transparent corners of the tile, and is baked into
+    // the snapshot rather than applied to every node on every frame.
+    canvas.setEffect(new InnerShadow(BlurType.GAUSSIAN, Color.GRAY, 2, 0, 0, 1));
+
+    SnapshotParameters parameters = new SnapshotParameters();
+    parameters.setFill(Color.TRANSPARENT);
+    return canvas.snapshot(parameters, null);
+  }
+}
@@ -0,0 +1,150 @@
+package org.csc335.javafx_entity;
+
+import org.csc335.entity.TileValue;
+
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * The look of a tile for one value: its color, the color and font of its
+ * number, and the number itself. A skin is built once for every value, and the
+ * {@link TileImageCache} draws tiles from it rather than having the CSS engine
+ * resolve style classes.
+ */
+public final class TileSkin {
+  // The width and height of a tile on a standard 4x4 board, as set in
+  // Tile.css, which the font sizes below are chosen for.
+  private static final double DEFAULT_SIZE = 116;
+
+  // The rounding of the corners of every tile.
+  private static final double CORNER_RADIUS = 12;
+
+  // The color of a tile for every exponent up to 2048, index 0 being a
+  // blank tile.
+  private static final String[] COLORS = {
+      "#bdac97", "#eee4da", "#ebd8b6", "#f1ae72", "#f69462", "#f77f64", "#f76543",
+      "#f0c85c", "#eecd68", "#edc857", "#edc546", "#ecc50b",
+  };
+
+  // The color shared by every tile past 2048.
+  private static final String SUPER_COLOR = "#3c3a32";
+
+  // The number of a 2 or a 4 is dark, every larger number is white.
+  private static final Color DARK_TEXT = Color.web("#756452");
+  private static final Color LIGHT_TEXT = Color.WHITE;
+
+  // The font size of the number for every exponent up to 2048.
+  private static final double[] FONT_SIZES = {
+      48, 48, 48, 48, 48, 48, 48, 44, 44, 44, 40, 40,
+  };
+
+  // The fewest digits of a number past 2048, that of 4096 and 8192.
+  private static final int SUPER_MIN_DIGITS = 4;
+
+  // The font size of a number past 2048 for every number of digits from
+  // SUPER_MIN_DIGITS on, which shrinks so that the number fits the tile.
+  private static final double[] SUPER_FONT_SIZES = {
+      37, 34, 30, 26, 22, 20, 18,
+  };
+
+  // The skin of every exponent, index 0 being a blank tile.
+  private static final TileSkin[] SKINS = new TileSkin[TileValue.MAX_EXPONENT + 1];
+
+  static {
+    SKINS[0] = new TileSkin(Color.web(COLORS[0]), DARK_TEXT, FONT_SIZES[0], "");
+    for (TileValue value : TileValue.values()) {
+      int exponent = value.exponent();
+      String text = value.toString();
+
+      if (exponent < COLORS.length) {
+        Color fill = exponent <= TileValue.T4.exponent() ? DARK_TEXT : LIGHT_TEXT;
+        SKINS[exponent] = new TileSkin(Color.web(COLORS[exponent]), fill, FONT_SIZES[exponent], text);
+      } else {
+        SKINS[exponent] = new TileSkin(Color.web(SUPER_COLOR), LIGHT_TEXT, SUPER_FONT_SIZES[text.length() - SUPER_MIN_DIGITS],
+            text);
+      }
+    }
+  }
+
+  private final Color color;
+  private final Paint textFill;
+  private final Font font;
+  private final String text;
+
+  private TileSkin(Color color, Paint textFill, double fontSize, String text) {
+    this.color = color;
+    this.textFill = textFill;
+    this.font = Font.font(Font.getDefault().getFamily(), FontWeight.BOLD, fontSize);
+    this.text = text;
+  }
+
+  /**
+   * Retrieves the skin of the tiles holding the given exponent.
+   *
+   * @pre 0 <= exponent <= TileValue.MAX_EXPONENT
+   * @param exponent the exponent of the tile's value, or 0 for a blank tile
+   *
+   * @return The skin built for the exponent.
+   */
+  public static TileSkin of(int exponent) {
+    return SKINS[exponent];
+  }
+
+  /**
+   * Retrieves the color of the tile.
+   *
+   * @return The color of the tile behind its number.
+   */
+  public Color getColor() {
+    return this.color;
+  }
+
+  /**
+   * Retrieves the size of a tile on a standard 4x4 board, at which the number
+   * is shown in the font size of its skin. Tiles of other sizes scale the font
+   * along with them.
+   *
+   * @return The width and height of the tile in pixels.
+   */
+  public static double getDefaultSize() {
+    return DEFAULT_SIZE;
+  }
+
+  /**
+   * Retrieves the rounding of the corners of every tile.
+   *
+   * @return The radius of the corners in pixels.
+   */
+  public static double getCornerRadius() {
+    return CORNER_RADIUS;
+  }
+
+  /**
+   * Retrieves the color of the tile's number.
+   *
+   * @return The color of the number.
+   */
+  public Paint getTextFill() {
+    return this.textFill;
+  }
+
+  /**
+   * Retrieves the font of the tile's number.
+   *
+   * @return The font of the number.
+   */
+  public Font getFont() {
+    return this.font;
+  }
+
+  /**
+   * Retrieves the number shown on the tile.
+   *
+   * @return The number of the tile, or an empty string for a blank tile.
+   */
+  public String getText() {
+    return this.text;
+  }
+}
@@ -3,12 +3,22 @@ package org.csc335.models;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-
+import java.util.SplittableRandom;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+import org.csc335.engine.BatchResult;
+import org.csc335.engine.Board;
+import org.csc335.engine.BoardSnapshot;
+import org.csc335.engine.EngineThread;
+import org.csc335.engine.GameEngine;
+import org.csc335.engine.MoveResult;
 import org.csc335.entity.Direction;
 import org.csc335.entity.TileValue;
+import org.csc335.interfaces.BoardChangeListener;
 import org.csc335.interfaces.GameBoardListener;
 import org.csc335.interfaces.Resettable;
-import org.csc335.javafx_entity.Audio;
+import org.csc335.javafx_entity.MergeSound;
 import org.csc335.util.Logger;
 
 import javafx.beans.property.IntegerProperty;
@@ -18,29 +28,101 @@ import javafx.beans.property.SimpleIntegerProperty;
  * Represents the model for the 2048 game, handling the game logic. This class
  * manages the game board state, including tile values, movements, and game
  * progression.
+ *
+ * <p>
+ * The rules and the game state live in a {@link GameEngine}, which keeps the
+ * cells in a packed {@link Board}. This class adapts the engine to the UI: it
+ * notifies listeners, plays sounds, and keeps a grid of {@link TileModel}s as a
+ * view that is synced from the packed board whenever it changes.
+ * </p>
+ *
+ * <p>
+ * The engine can also be handed over to an {@link EngineThread} with
+ * {@link #startEngineThread(Executor)}. Moves are then applied on that thread,
+ * and this model reads the immutable {@link BoardSnapshot}s it publishes
+ * instead of the engine.
+ * </p>
+ *
+ * <p>
+ * Either way, every change of the board is published as a snapshot that any
+ * thread, such as a solver or a statistics overlay, can read with
+ * {@link #getSnapshot()} without locking and without touching the tiles.
+ * </p>
  */
 public class GameBoardModel implements Resettable {
   private List<GameBoardListener> listeners;
-  private TileModel[][] board;
-  private List<TileModel> emptyTiles;
+  private List<BoardChangeListener> changeListeners;
+  private GameEngine engine;
+
+  // The thread that owns the engine once it was started, or null while moves
+  // are applied on the caller's thread.
+  private EngineThread engineThread;
+
+  // The resets queued for the engine thread whose snapshot was not applied
+  // yet. The snapshots of the moves queued before them belong to the game that
+  // was thrown away, so they are dropped rather than applied.
+  private int pendingResets;
+
+  // The last snapshot published by the engine thread, which is read instead of
+  // the engine while the thread runs.
+  private BoardSnapshot snapshot;
+  private MoveResult lastMove;
+
+  // Plays a single cue for the merges of every move, off this thread.
+  private MergeSound mergeSound;
+  private TileModel[][] tiles;
+
+  // The cells that changed since the view last took them, where bit
+  // size * row + col is set for the cell (row, col).
+  private long dirtyCells;
   private boolean shouldRecordKeystrokes;
   private IntegerProperty moves;
 
   public GameBoardModel(int size) {
+    this(size, new SplittableRandom());
+  }
+
+  /**
+   * Creates a game board whose tiles are spawned from a generator seeded with
+   * the given seed. Two boards created with the same seed and fed the same
+   * directions play out exactly the same game.
+   *
+   * @param size the width and height of the board
+   * @param seed the seed of the random generator
+   */
+  public GameBoardModel(int size, long seed) {
+    this(size, new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a game board whose tiles are spawned from the given random
+   * generator. Parallel simulations can hand each board its own split of a
+   * {@link SplittableRandom} so that no generator is shared between threads.
+   *
+   * @param size   the width and height of the board, from
+   *               {@link Board#MIN_SIZE} to {@link Board#MAX_SIZE}
+   * @param random the source of randomness for spawned tiles
+   * @throws IllegalArgumentException if the size is not supported.
+   */
+  public GameBoardModel(int size, RandomGenerator random) {
     this.listeners = new ArrayList<>();
-    this.emptyTiles = new ArrayList<>();
-    this.board = this.makeBoard(size);
+    this.changeListeners = new ArrayList<>();
+    this.engine = new GameEngine(size, random);
+    this.lastMove = new MoveResult();
+    this.mergeSound = new MergeSound();
+    this.tiles = this.makeBoard(size);
     this.shouldRecordKeystrokes = true;
     this.moves = new SimpleIntegerProperty(0);
 
-    this.initialTileSetup();
+    this.syncTiles(this.allCells());
     printBoard();
   }
 
   /**
-   * Creates a 4x4 board of Tile objects, adds them to the grid layout, and
-   * returns the board.
+   * Creates a size x size board of TileModel objects that act as a view of the
+   * packed board, and returns it.
    *
+   * @param size the width and height of the board
    * @return A 2D array representing the game board
    */
   private TileModel[][] makeBoard(int size) {
@@ -56,97 +138,155 @@ public class GameBoardModel implements Resettable {
   }
 
   public void reset() {
-    // Iterate through each cell of the game board and reset it to a blank state.
-    for (int i = 0; i < board.length; ++i) {
-      for (int j = 0; j < board[i].length; ++j) {
-        board[i][j].makeBlank(); // Set the current cell to a blank state.
-      }
+    // The engine thread resets the game in turn, after the moves queued before.
+    if (this.engineThread != null) {
+      this.pendingResets++;
+      this.engineThread.reset();
+      return;
     }
 
-    // Perform the initial setup of tiles on the game board.
-    initialTileSetup();
+    // Clear the game board and spawn its two initial tiles.
+    this.engine.reset();
+
+    // Reflect the new board in the tile view.
+    syncTiles(this.allCells());
 
     // Reset the move counter to zero since the game has been reset.
     this.moves.set(0);
+    this.engine.publish();
+    this.notifyBoardChanged(null);
   }
 
   /**
-   * Initializes the tile setup on the game board by setting random values to two
-   * distinct randomly selected tiles.
-   * This method updates the state of blank tiles and assigns random values to two
-   * different tiles from the list of empty tiles.
-   *
-   * @pre The game board has been initialized and the {@code emptyTiles} list
-   *      contains at least two tiles.
-   * @post Two distinct tiles from the {@code emptyTiles} list have been assigned
-   *       random values.
-   *       The state of the game board is updated with these new values.
-   *       The {@code emptyTiles} list remains unchanged in terms of the tiles it
-   *       contains, only their values are modified.
+   * Hands the engine over to a thread of its own, which applies every move
+   * from now on. The model then only reads the snapshots the thread publishes,
+   * which are applied to the model on the given executor, so listeners keep
+   * being notified on the thread the UI runs on.
+   *
+   * @pre The engine thread was not started yet.
+   * @post Moves and resets are queued for the engine thread rather than applied
+   *       right away.
+   * @param uiThread runs the updates of the model, for instance
+   *                 {@code Platform::runLater}
    */
-  private void initialTileSetup() {
-    // Update the state of blank tiles on the game board
-    updateBlankTiles();
+  public void startEngineThread(Executor uiThread) {
+    // Publish the board as it is, in case it was changed without a move.
+    this.snapshot = this.engine.publish();
+    this.engineThread = new EngineThread(this.engine, (snapshot, move) -> {
+      uiThread.execute(() -> this.applySnapshot(snapshot, move));
+    });
+  }
 
-    // Select the first random index from the list of empty tiles and create a
-    // variable for idx2 to reassign later
-    int idx1 = (int) (Math.random() * emptyTiles.size()), idx2;
+  /**
+   * Brings the model in line with a snapshot published by the engine thread,
+   * and notifies the listeners just like a move applied on this thread would.
+   * The snapshot of a move that was queued before a reset still waiting to be
+   * applied is dropped, so the score and the end of the old game never reach
+   * the new one.
+   *
+   * @post The model reads the board of the snapshot, and the listeners have
+   *       been told about the move that led to it, unless the snapshot is
+   *       stale.
+   * @param snapshot the snapshot to apply
+   * @param move     the record of the move that led to the snapshot, or null
+   *                 if it follows a reset
+   */
+  private void applySnapshot(BoardSnapshot snapshot, MoveResult move) {
+    if (move != null && this.pendingResets > 0) {
+      return;
+    }
+
+    this.snapshot = snapshot;
 
-    // Ensure that the second random index is different from the first one
-    do {
-      idx2 = (int) (Math.random() * emptyTiles.size());
-    } while (idx2 == idx1);
+    // A snapshot without a move follows a reset.
+    if (move == null) {
+      if (this.pendingResets > 0) {
+        this.pendingResets--;
+      }
+      this.syncTiles(this.allCells());
+      this.moves.set(snapshot.getMoves());
+      this.notifyBoardChanged(null);
+      return;
+    }
 
-    // Set a random value to the tile at the first selected index
-    emptyTiles.get(idx1).random();
+    this.lastMove = move;
+    long score = move.getScore();
+    if (score > 0) {
+      this.notifyScoreChanged(score);
+    }
 
-    // Set a random value to the tile at the second selected index
-    emptyTiles.get(idx2).random();
+    this.moves.set(snapshot.getMoves());
+    for (GameBoardListener listener : this.listeners) {
+      listener.tileMoved();
+    }
+
+    this.mergeSound.moved(move);
+    this.syncTiles(move.changedCells());
+    this.notifyBoardChanged(move);
+    if (snapshot.isGameOver()) {
+      this.notifyGameOver();
+    }
+    printBoard();
   }
 
   /**
-   * Updates the list of empty tiles on the game board.
-   * This method clears the current list of empty tiles and then iterates
-   * through each cell of the game board. For each cell, it checks if the cell
-   * is blank, and if so, adds it to the list of empty tiles.
-   *
-   * @pre The game board (board) is initialized and contains valid tile objects.
-   *      The emptyTiles list is a valid mutable list that can be cleared and have
-   *      items added.
-   * @post The emptyTiles list contains references to all and only the blank tiles
-   *       from the board.
+   * Copies the given cells of the packed board into the grid of
+   * {@link TileModel}s and marks them dirty for the view. Tiles whose value did
+   * not change are left untouched, so no change events fire for them.
+   *
+   * @post Every given cell of the view holds the value of its cell on the packed
+   *       board, and is part of the mask returned by {@link #takeDirtyCells()}.
+   * @param cells the mask of cells to copy, where bit {@code size * row + col}
+   *              is set for the cell (row, col)
    */
-  private void updateBlankTiles() {
-    // Clear the list of empty tiles
-    this.emptyTiles.clear();
-
-    // Iterate over each cell in the board to update the list of empty tiles.
-    for (int row = 0; row < board.length; row++) {
-      for (int col = 0; col < board.length; col++) {
-        // Check if the current cell is blank and add it to the list of empty tiles.
-        if (board[row][col].isBlank()) {
-          emptyTiles.add(board[row][col]);
-        }
-      }
+  private void syncTiles(long cells) {
+    int size = this.engine.getSize();
+    this.dirtyCells |= cells;
+
+    for (long rest = cells; rest != 0; rest &= rest - 1) {
+      int cell = Long.numberOfTrailingZeros(rest);
+      tiles[cell / size][cell % size].setValue(this.getValue(cell / size, cell % size));
     }
   }
 
   /**
-   * Randomly selects an empty tile from the list of empty tiles and assigns a
-   * random value to it.
-   * This method modifies the state of the selected tile by setting its value to a
-   * random value as defined by the Tile class's setRandomValue method.
-   *
-   * @pre emptyTiles is not empty; it contains one or more Tile objects
-   *      representing the empty tiles on the game board.
-   * @post One of the tiles in emptyTiles has been selected and its value has been
-   *       set to a random value.
+   * Computes the mask with a bit set for every cell of the board.
+   *
+   * @return The mask of all size * size cells.
    */
-  private void generateRandomValues() {
-    int randomIndex = (int) (Math.random() * emptyTiles.size());
-    TileModel randomTile = emptyTiles.get(randomIndex);
+  private long allCells() {
+    int size = this.engine.getSize();
+    return -1L >>> (Long.SIZE - size * size);
+  }
+
+  /**
+   * Retrieves the cells that changed since the last call, and forgets them. A
+   * view of the board redraws these cells and can leave every other one alone,
+   * so its cost follows what moved rather than the size of the board.
+   *
+   * @post No cell is dirty until the board changes again.
+   *
+   * @return A mask with bit {@code size * row + col} set for every cell (row,
+   *         col) that changed. It can include cells whose value changed and
+   *         then changed back.
+   */
+  public long takeDirtyCells() {
+    long cells = this.dirtyCells;
+    this.dirtyCells = 0L;
+    return cells;
+  }
 
-    randomTile.random();
+  /**
+   * Randomly selects a blank cell of the board and assigns a random value to
+   * it. The engine updates its mask of blank cells in place, so no scan over the
+   * board is needed before the next spawn.
+   *
+   * @pre The board has one or more blank cells.
+   * @post One of the blank cells has been selected and its value has been set
+   *       to a random value.
+   */
+  private void generateRandomValues() {
+    this.engine.spawnRandomTile(this.lastMove);
   }
 
   /**
@@ -159,21 +299,23 @@ public class GameBoardModel implements Resettable {
     // Check if the logger is in development mode. If true, print the board to the
     // console.
     if (Logger.isDevelopment()) {
+      int size = this.engine.getSize();
+      String border = "+" + "----+".repeat(size) + "\n";
       String boardString = "";
 
       // top border of the board.
-      boardString += "+----+----+----+----+\n";
+      boardString += border;
 
       // Iterate over each row of the board.
-      for (int row = 0; row < board.length; row++) {
+      for (int row = 0; row < size; row++) {
         // left border of the current row.
         boardString += "|";
 
         // Iterate over each column within the current row.
-        for (int col = 0; col < board[row].length; col++) {
+        for (int col = 0; col < size; col++) {
           // Retrieve the value at the current position, defaulting to an empty string if
           // the value is null.
-          Optional<TileValue> value = board[row][col].getValue();
+          Optional<TileValue> value = this.getValue(row, col);
 
           String tileValue = value.isEmpty() ? "" : value.get().toString();
 
@@ -182,30 +324,25 @@ public class GameBoardModel implements Resettable {
         }
 
         // Move to the next row and put the row's bottom border.
-        boardString += "\n+----+----+----+----+\n";
+        boardString += "\n" + border;
       }
       System.out.println(boardString);
     }
   }
 
   /**
-   * Shifts the game board in the specified direction by calling the
-   * {@code shiftOperation} method with the appropriate parameters. This method
-   * handles the logic of shifting tiles based on the player's input (WASD keys).
-   * It prevents any actions from being performed if the direction is null, which
-   * typically occurs when an unrecognized or unintended key press is detected.
-   *
-   * The method uses a switch statement to determine which direction was specified
-   * and passes the correct boolean parameters to the {@code shiftOperation}
-   * method. The first boolean parameter indicates whether tiles should be shifted
-   * upwards or downwards, and the second parameter indicates whether tiles should
-   * be shifted left or right.
+   * Shifts the game board in the specified direction. This method handles the
+   * logic of shifting tiles based on the player's input (WASD keys). It prevents
+   * any actions from being performed if the direction is null, which typically
+   * occurs when an unrecognized or unintended key press is detected.
+   *
+   * The move itself is delegated to the {@link GameEngine}, which looks up the
+   * outcome of every row in its precomputed tables.
    *
    * @pre The game board is initialized and contains tiles that can be shifted.
    * @post The game board is updated according to the direction specified, if the
-   *       direction
-   *       is not null. The method does not modify the board if the direction is
-   *       null.
+   *       direction is not null. The method does not modify the board if the
+   *       direction is null.
    *
    * @param direction A {@code Direction} enum representing the directional key
    *                  pressed (WASD).
@@ -219,146 +356,28 @@ public class GameBoardModel implements Resettable {
    *         (e.g., due to a null direction or no available shifts).
    */
   private boolean shift(Direction direction) {
-    switch (direction) {
-      case UP:
-        return shiftOperation(true, true);
-      case DOWN:
-        return shiftOperation(false, true);
-      case LEFT:
-        return shiftOperation(true, false);
-      case RIGHT:
-        return shiftOperation(false, false);
-      case null:
+    if (direction == null) {
+      this.lastMove.reset(null);
+      return false;
     }
-    return false;
-  }
 
-  /**
-   * Merges tiles on the game board in the specified direction. This method is
-   * generalized to handle merges from both rows and columns, as well as
-   * collapsing towards either end of the board. It uses two pointers within each
-   * row or column to determine the tile merge behavior:
-   * <ul>
-   * <li><strong>Tile merges with empty space:</strong> The tile moves into the
-   * empty space.</li>
-   * <li><strong>Tile merges with same-value tile:</strong> The tiles combine into
-   * a higher-value tile.</li>
-   * <li><strong>Tile merges with a different-value tile:</strong> The tile moves
-   * to the adjacent space instead.</li>
-   * </ul>
-   * If any tiles are merged or moved, a boolean flag is set to true to indicate
-   * that some action occurred, and this flag is returned at the end of the
-   * method.
-   *
-   * @param collapseTowards0 Indicates the direction of collapse:
-   *                         <ul>
-   *                         <li><strong>true:</strong> Tiles move towards index 0
-   *                         (collapsed towards the start).</li>
-   *                         <li><strong>false:</strong> Tiles move towards the
-   *                         end of the array.</li>
-   *                         </ul>
-   *
-   * @param loopOverCols     Indicates whether the operation should be performed
-   *                         over columns:
-   *                         <ul>
-   *                         <li><strong>true:</strong> The operation loops over
-   *                         columns.</li>
-   *                         <li><strong>false:</strong> The operation loops over
-   *                         rows.</li>
-   *                         </ul>
-   *
-   * @return A boolean flag indicating whether any tiles were merged or moved
-   *         during the operation.
-   */
-  private boolean shiftOperation(boolean collapseTowards0, boolean loopOverCols) {
-    // Flag to indicate if any tiles have been merged or moved during this process.
-    boolean somethingHappened = false;
-
-    // Iterate over each row or column that we need to merge (depending on the
-    // context). `toMerge` acts as an index representing either a row or a column.
-    for (int toMerge = 0; toMerge < board.length; toMerge++) {
-
-      // Determine the direction of merging based on `collapseTowards0`:
-      // - If true, rows/cols collapse towards position 0, so pointers move from right
-      // to left.
-      // - If false, rows/cols collapse towards the end, so pointers move from left to
-      // right.
-      final int OFFSET = (collapseTowards0) ? 1 : -1;
-
-      // `first` points to the tile that we're trying to merge into or move next to.
-      // `next` points to the tile that we're examining for merging or moving.
-      int first = (collapseTowards0) ? 0 : board.length - 1;
-      int next = (collapseTowards0) ? 1 : board.length - 2;
-
-      // Loop through tiles in the current row/column to perform merging or moving.
-      while (true) {
-        // Define loop condition based on the direction of the collapse.
-        boolean loopCondition = (collapseTowards0) ? (next < board.length) : (next >= 0);
-        if (!loopCondition) {
-          break; // Exit loop if no more tiles to process in this row/column.
-        }
-
-        // Fetch the `nextTile` based on whether we're iterating over columns or rows.
-        TileModel nextTile = (loopOverCols) ? board[next][toMerge] : board[toMerge][next];
-
-        // If `nextTile` is blank, move the `next` pointer in the appropriate direction.
-        if (nextTile.isBlank()) {
-          next += OFFSET;
-          continue;
-        }
-
-        // Fetch the `firstTile` based on whether we're iterating over columns or rows.
-        TileModel firstTile = (loopOverCols) ? board[first][toMerge] : board[toMerge][first];
-
-        // If values of `nextTile` and `firstTile` are equal, we can merge them.
-        if (nextTile.equals(firstTile)) {
-          somethingHappened = true;
-
-          // Update `firstTile` with the next value in the sequence.
-          firstTile.setValue(firstTile.getNextValue());
-          // Notify listeners about the score change.
-          this.notifyScoreChanged(firstTile.getNumericValue());
-          // Make `nextTile` blank after merging.
-          nextTile.makeBlank();
-
-          // Move `first` pointer and play the merge sound.
-          first += OFFSET;
-          Audio.MERGE_SOUND.play();
-        }
-        // If `firstTile` is blank, move `nextTile` to `firstTile`'s position.
-        else if (firstTile.isBlank()) {
-          somethingHappened = true;
-
-          firstTile.setValue(nextTile.getValue());
-          nextTile.makeBlank();
-        }
-        // If `firstTile` and `nextTile` are not equal and `firstTile` is not blank,
-        // move `nextTile` next to `firstTile`.
-        else {
-
-          // Determine the target position for `nextTile` based on whether we're iterating
-          // over columns or rows.
-          int row = (!loopOverCols) ? toMerge : (first + OFFSET);
-          int col = (loopOverCols) ? toMerge : (first + OFFSET);
-
-          // Swap the positions of `nextTile` and the tile at the target position.
-          if (swap(board[row][col], nextTile)) {
-            somethingHappened = true;
-          }
-          first += OFFSET;
-        }
-        // Move `next` pointer to the next tile to process.
-        next += OFFSET;
-      }
-    }
+    boolean somethingHappened = this.engine.shift(direction, this.lastMove);
 
     // If any changes were made to the board, update the move count and notify
     // listeners.
     if (somethingHappened) {
-      this.moves.set(this.moves.get() + 1);
+      long score = this.lastMove.getScore();
+      if (score > 0) {
+        this.notifyScoreChanged(score);
+      }
+
+      this.moves.set(this.engine.getMoves());
       for (GameBoardListener listener : this.listeners) {
         listener.tileMoved();
       }
+
+      // The sound is played later, on the audio thread.
+      this.mergeSound.moved(this.lastMove);
     }
 
     // Return the flag indicating if any changes were made to the board during this
@@ -368,87 +387,41 @@ public class GameBoardModel implements Resettable {
   }
 
   /**
-   * Swaps the values of two given tiles, {@code t1} and {@code t2}.
-   *
-   * The method exchanges the values of the two tiles if they are not the same.
-   * Specifically, it copies the value from {@code t2} into {@code t1}, and the
-   * value from {@code t1} into {@code t2}.
-   *
-   * @pre {@code t1} and {@code t2} are not null and are part of the game board.
-   * @post The values of {@code t1} and {@code t2} have been swapped if they were
-   *       different; otherwise, the board remains unchanged.
-   * @param t1 the first tile involved in the swap. This tile's value will be
-   *           replaced with the value of the second tile.
-   * @param t2 the second tile involved in the swap. This tile's value will be
-   *           replaced with the value of the first tile.
-   *
-   * @return {@code true} if the swap occurred (i.e., the values of {@code t1} and
-   *         {@code t2} were different and, as a result, swapped); {@code false}
-   *         if no swap was performed because both tiles already had the same
-   *         value.
+   * Computes the directions in which the board can currently be moved. The UI
+   * can use the mask to grey out dead directions, and it is 0 once the game is
+   * over.
+   *
+   * @post The state of the game board remains unchanged.
+   *
+   * @return A mask of {@link Direction#mask()} bits, with a bit set for every
+   *         direction that would change the board.
    */
-  private boolean swap(TileModel t1, TileModel t2) {
-    Optional<TileValue> temp = t1.getValue();
-    t1.setValue(t2.getValue());
-    t2.setValue(temp);
-    return t1 != t2;
+  public int getLegalMoves() {
+    if (this.engineThread != null) {
+      return this.snapshot.getLegalMoves();
+    }
+    return this.engine.getLegalMoves();
   }
 
   /**
-   * Checks if the game is in an end state by determining if there are no adjacent
-   * tiles with the same value. This method implements a brute-force approach to
-   * iterate through each tile and compare it with its neighboring tiles (up,
-   * down, left, right). If any two adjacent tiles have the same value, it
-   * indicates that the player can make a move.
-   * 
-   * @pre The game board (board) must be initialized with valid Tile objects and
-   *      have at least one row and one column.
-   * @post The state of the game board remains unchanged.
+   * Retrieves the width and height of the game board.
    *
-   * @return true if the player cannot make any more moves (i.e., there are no
-   *         adjacent tiles with the same value), false otherwise (i.e., there are
-   *         adjacent tiles with the same value).
+   * @return The number of tiles in every row and every column.
    */
-  private boolean testGameEndMethod() {
-    // Iterate through each row of the game board.
-    for (int r = 0; r < board.length; r++) {
-      // Iterate through each column of the current row.
-      for (int c = 0; c < board[0].length; c++) {
-        // Retrieve the current tile at position (r, c).
-        TileModel thisTile = board[r][c];
-
-        // Create an array to hold up to 4 neighboring tiles (up, down, left, right).
-        TileModel[] toCompare = new TileModel[4];
-
-        // Check if there is a tile below the current tile and store it.
-        if (r + 1 < board.length) {
-          toCompare[0] = board[r + 1][c];
-        }
-        // Check if there is a tile above the current tile and store it.
-        if (r - 1 >= 0) {
-          toCompare[1] = board[r - 1][c];
-        }
-        // Check if there is a tile to the right of the current tile and store it.
-        if (c + 1 < board[0].length) {
-          toCompare[2] = board[r][c + 1];
-        }
-        // Check if there is a tile to the left of the current tile and store it.
-        if (c - 1 >= 0) {
-          toCompare[3] = board[r][c - 1];
-        }
+  public int getSize() {
+    return this.engine.getSize();
+  }
 
-        // Iterate through all the neighboring tiles.
-        for (TileModel t : toCompare) {
-          // If a neighboring tile is found and is the same as the current tile, return
-          // false.
-          if (t != null && thisTile.equals(t)) {
-            return false;
-          }
-        }
-      }
-    }
-    // If no neighboring tiles are the same as any tile on the board, return true.
-    return true;
+  /**
+   * Retrieves the record of the last move handled by
+   * {@link #handleDirection(Direction)}: which tiles slid where, where they
+   * merged, which tile was spawned and how much score was gained. The same
+   * record is refilled by every move, so it must be read before the next one.
+   *
+   * @return The record of the last move.
+   */
+  public MoveResult getLastMove() {
+    return this.lastMove;
   }
 
   /**
@@ -514,46 +487,60 @@ public class GameBoardModel implements Resettable {
    *      {@link GameBoardListener} instances.
    * @post Each listener in the list has been notified of the game over event.
    */
-  private void notifyScoreChanged(int diff) {
+  private void notifyScoreChanged(long diff) {
+    // The scoreboard counts in ints, which a single move only overflows once
+    // tiles reach the billions, so the score saturates rather than wrapping
+    // around.
+    int clamped = (int) Math.min(diff, Integer.MAX_VALUE);
+
     for (GameBoardListener listener : this.listeners) {
-      listener.scoreChanged(diff);
+      listener.scoreChanged(clamped);
     }
   }
 
   /**
    * Handles the movement of tiles in the specified direction on the game board.
-   * This method shifts the tiles, updates the list of blank tiles, and generates
-   * a new random tile if any tiles moved. It also checks if the game has ended
-   * when the board is full.
+   * This method shifts the tiles, which also updates the mask of blank tiles,
+   * and generates a new random tile if any tiles moved. It also checks if the game has ended
+   * when no legal moves are left. Everything the move did is recorded in the
+   * {@link MoveResult} returned by {@link #getLastMove()}.
    *
-   * @post The tiles are shifted in the specified direction, the list of blank
-   *       tiles is updated, a new random tile is generated if necessary, and the
-   *       game state is checked for completion.
+   * @post The tiles are shifted in the specified direction, the mask of blank
+   *       tiles is updated, a new random tile is generated if necessary, the
+   *       record of the last move is refilled, and the game state is checked for
+   *       completion.
    * @param direction The direction in which the tiles should be shifted (UP,
    *                  DOWN, LEFT, RIGHT).
    */
   public void handleDirection(Direction direction) {
+    // The engine thread applies the move in turn and publishes its outcome.
+    if (this.engineThread != null) {
+      if (direction != null) {
+        this.engineThread.move(direction);
+      }
+      return;
+    }
 
     // Shift the tiles in the specified direction and check if any tiles moved.
     boolean somethingHappened = shift(direction);
 
-    // Update the list of blank tiles, which helps determine if the game is over.
-    updateBlankTiles();
-
     // If any tiles moved, generate a new random tile.
     if (somethingHappened) {
       generateRandomValues();
 
-      // If there is only one blank tile remaining (indicating the board is full),
-      // check if the game has ended.
-      if (emptyTiles.size() == 1) {
-        if (testGameEndMethod()) {
-          // Print the final game board state.
-          printBoard();
+      // Reflect the cells that the move and the new tile changed in the tile
+      // view.
+      syncTiles(this.lastMove.changedCells());
+      this.engine.publish();
+      this.notifyBoardChanged(this.lastMove);
 
-          // Notify the game board that the game is over.
-          this.notifyGameOver();
-        }
+      // The game has ended once no direction can change the board.
+      if (getLegalMoves() == 0) {
+        // Print the final game board state.
+        printBoard();
+
+        // Notify the game board that the game is over.
+        this.notifyGameOver();
       }
     }
 
@@ -561,6 +548,88 @@ public class GameBoardModel implements Resettable {
     printBoard();
   }
 
+  /**
+   * Applies a whole sequence of moves at once, for instance to replay a recorded
+   * game. Unlike calling {@link #handleDirection(Direction)} for every move, no
+   * sound is played and the listeners and the tile view are updated only once,
+   * after the last move.
+   *
+   * @post The game board is in the state reached after the applied moves, the
+   *       listeners have been told about the total score gained, and about the
+   *       end of the game if the moves ended it.
+   * @param directions the moves to apply, in order
+   *
+   * @return The outcome of the whole sequence.
+   * @throws IllegalStateException if the engine thread was started, since the
+   *                               outcome would only be known later.
+   */
+  public BatchResult applyMoves(Direction[] directions) {
+    if (this.engineThread != null) {
+      throw new IllegalStateException("Moves are applied by the engine thread");
+    }
+
+    BatchResult result = this.engine.applyMoves(directions);
+
+    this.syncTiles(this.allCells());
+    this.moves.set(this.engine.getMoves());
+    this.engine.publish();
+
+    if (result.getScore() > 0) {
+      this.notifyScoreChanged(result.getScore());
+    }
+    if (result.getMovesApplied() > 0) {
+      for (GameBoardListener listener : this.listeners) {
+        listener.tileMoved();
+      }
+    }
+    this.notifyBoardChanged(null);
+    if (result.isGameOver()) {
+      this.notifyGameOver();
+    }
+
+    printBoard();
+    return result;
+  }
+
+  /**
+   * Retrieves the last published snapshot of the game. Unlike every other
+   * method of the model, it can be called from any thread, at any time: the
+   * read never blocks the thread that plays, and the snapshot is never changed
+   * afterwards. While the engine thread runs, the snapshot can be ahead of the
+   * tiles, which only catch up once it is applied on the UI thread.
+   *
+   * @return The snapshot of the last change of the board.
+   */
+  public BoardSnapshot getSnapshot() {
+    return this.engine.getPublishedSnapshot();
+  }
+
+  /**
+   * Adds a {@link BoardChangeListener} that will be notified whenever cells of
+   * the board changed, along with the record of the move that changed them.
+   *
+   * @pre The provided listener is not null and is not already added.
+   * @post The listener will be notified of every change of the board.
+   * @param listener the {@link BoardChangeListener} to be added
+   */
+  public void addBoardChangeListener(BoardChangeListener listener) {
+    this.changeListeners.add(listener);
+  }
+
+  /**
+   * Notifies all registered {@link BoardChangeListener}s that cells of the board
+   * changed.
+   *
+   * @post Each listener has been notified of the change.
+   * @param move the record of the move that changed the board, or null if the
+   *             whole board changed at once, as after a reset
+   */
+  private void notifyBoardChanged(MoveResult move) {
+    for (BoardChangeListener listener : this.changeListeners) {
+      listener.boardChanged(move);
+    }
+  }
+
   /**
    * Notifies all registered {@link GameBoardListener}s that the game has ended.
    * This method iterates through the list of listeners and calls their
@@ -589,6 +658,9 @@ public class GameBoardModel implements Resettable {
    *          it exists, otherwise an empty Optional.
    */
   public Optional<TileValue> getValue(int i, int j) {
-    return this.board[i][j].getValue();
+    if (this.engineThread != null) {
+      return TileValue.fromExponent(this.snapshot.getExponent(i, j));
+    }
+    return TileValue.fromExponent(this.engine.getExponent(i, j));
   }
 }
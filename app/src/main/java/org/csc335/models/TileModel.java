@@ -15,11 +15,6 @@ import javafx.beans.value.ChangeListener;
  * easy integration with UI components and to support property change listeners.
  */
 public class TileModel {
-  // Constant representing the probability of a specific tile value (T4)
-  // appearing. This value is used to determine the likelihood of a tile being
-  // assigned a value of 4.
-  private static final double T4_CHANCE = 0.75;
-
   // Holds the optional value of the tile, which can be empty if the tile has no
   // assigned value.
   private ObjectProperty<TileValue> tileValue;
@@ -75,7 +70,7 @@ public class TileModel {
    *
    * @return The numeric value of the tile if present, otherwise 0.
    */
-  public int getNumericValue() {
+  public long getNumericValue() {
     if (this.getValue().isEmpty()) {
       return 0;
     }
@@ -96,7 +91,7 @@ public class TileModel {
   /**
    * Retrieves the next value for the current tile, if available.
    *
-   * @pre The current tile value is either present or empty, TileValue != T2048
+   * @pre The current tile value is either present or empty.
    *
    * @returns An Optional containing the next TileValue if it exists;
    *          otherwise, returns Optional.empty() if the current tile value
@@ -110,14 +105,13 @@ public class TileModel {
   }
 
   /**
-   * Randomly assigns a value to the tile. With a probability defined by
-   * T4_CHANCE, the tile's value is set to TileValue.T4; otherwise, it is set to
-   * TileValue.T2.
+   * Randomly assigns a value to the tile, as picked by
+   * {@link TileValue#random()}.
    *
    * @post The tileValue property is set to either TileValue.T4 or TileValue.T2.
    */
   public void random() {
-    this.tileValue.set(Math.random() > T4_CHANCE ? TileValue.T4 : TileValue.T2);
+    this.tileValue.set(TileValue.random());
   }
 
   /**
@@ -8,6 +8,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.csc335.interfaces.NavigationListener;
+import org.csc335.util.StylesheetRegistry;
 
 import javafx.event.EventHandler;
 import javafx.scene.Parent;
@@ -38,6 +39,10 @@ public class Navigation {
   public static void navigate(Parent root) {
     try {
       Scene scene = new Scene(root);
+
+      // The views register their stylesheets with the scene rather than
+      // carrying them.
+      StylesheetRegistry.attachTo(scene);
       notifyListeners(scene);
       stack.push(scene);
     } catch (Exception e) {
@@ -1,5 +1,12 @@
 package org.csc335.util;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 
@@ -8,8 +15,71 @@ import javafx.scene.Parent;
  * with controllers. This class helps streamline the process of initializing
  * JavaFX components by automating the loading of FXML content and applying CSS
  * stylesheets.
+ *
+ * <p>
+ * The location and the bytes of the FXML file of a view class are looked up
+ * and read once, on its first load, so views that are created over and over,
+ * such as dialogs and their buttons, skip the resource lookup and the file
+ * read. The FXML is still parsed by a new {@link FXMLLoader} on every load,
+ * which has no way to reuse a parsed file. The stylesheet of a view class is
+ * registered once with the {@link StylesheetRegistry}, which shares it
+ * through the scene, so the views themselves carry no stylesheets.
+ * </p>
  */
 public final class EZLoader {
+  // The resources of every view class loaded so far.
+  private static final Map<Class<?>, Resources> RESOURCES = new HashMap<>();
+
+  /**
+   * The location and unparsed content of the FXML file of a view class, as
+   * found on its first load.
+   */
+  private static final class Resources {
+    // The location of the FXML file, against which relative paths in it are
+    // resolved.
+    private final URL location;
+
+    // The content of the FXML file.
+    private final byte[] fxml;
+
+    /**
+     * Finds and reads the resources of a view class, and registers its
+     * stylesheet.
+     *
+     * @param viewClass the class of the view, used to locate the corresponding
+     *                  FXML and CSS files.
+     * @throws RuntimeException if the FXML file cannot be read, wrapping the
+     *                          original exception.
+     */
+    private Resources(Class<?> viewClass) {
+      this.location = viewClass.getResource("/view/" + viewClass.getSimpleName() + ".fxml");
+      StylesheetRegistry.register(viewClass.getResource("/css/" + viewClass.getSimpleName() + ".css").toExternalForm());
+
+      // Views built in code have a stylesheet but no FXML file.
+      if (this.location == null) {
+        this.fxml = null;
+        return;
+      }
+
+      try (InputStream stream = this.location.openStream()) {
+        this.fxml = stream.readAllBytes();
+      } catch (IOException e) {
+        throw new RuntimeException(e);
+      }
+    }
+  }
+
+  /**
+   * Retrieves the resources of a view class, reading them on the first call.
+   *
+   * @param viewClass the class of the view
+   *
+   * @return The resources of the view class.
+   */
+  private static Resources resources(Class<?> viewClass) {
+    return RESOURCES.computeIfAbsent(viewClass, Resources::new);
+  }
+
   /**
    * Loads an FXML file corresponding to the provided view class and sets up the
    * view with the specified controller. The FXML file and CSS stylesheet are
@@ -22,7 +92,7 @@ public final class EZLoader {
    *      expected directories.
    * @post The FXML content is loaded into the provided view instance, which is
    *       also set as the controller.
-   *       The CSS stylesheet is added to the view's stylesheets.
+   *       The CSS stylesheet is registered with the scenes.
    * @param view      the view instance to be populated with the FXML content.
    *                  This instance will also serve as the controller.
    * @param viewClass the class of the view, used to locate the corresponding FXML
@@ -31,8 +101,11 @@ public final class EZLoader {
    *                          original exception.
    */
   public static <T extends Parent> void load(T view, Class<T> viewClass) {
-    // Create an FXMLLoader to load the FXML file corresponding to the view class.
-    FXMLLoader loader = new FXMLLoader(view.getClass().getResource("/view/" + viewClass.getSimpleName() + ".fxml"));
+    Resources resources = EZLoader.resources(viewClass);
+
+    // Create an FXMLLoader that parses the FXML content read on the first load,
+    // which it does anew for every view.
+    FXMLLoader loader = new FXMLLoader(resources.location);
 
     // Set the root of the loader to the provided view instance.
     loader.setRoot(view);
@@ -40,20 +113,30 @@ public final class EZLoader {
     // view is also a controller.
     loader.setController(view);
 
-    // Add the CSS stylesheet corresponding to the view class to the view's
-    // stylesheets.
-    view.getStylesheets()
-        .add(view.getClass().getResource("/css/" + viewClass.getSimpleName() + ".css").toExternalForm());
-
     // Attempt to load the FXML content.
     try {
-      loader.load();
+      loader.load(new ByteArrayInputStream(resources.fxml));
     } catch (Exception e) {
       // If loading fails, throw a RuntimeException with the original exception.
       throw new RuntimeException(e);
     }
   }
 
+  /**
+   * Registers the CSS stylesheet corresponding to the provided view class for a
+   * view that builds its nodes in code rather than from an FXML file. Views
+   * created by the dozen, such as the tiles of the board, skip parsing FXML
+   * this way.
+   *
+   * @pre The CSS file corresponding to the view class exists in the "/css/"
+   *      directory.
+   * @post The CSS stylesheet is registered with the scenes.
+   * @param viewClass the class of the view, used to locate the CSS file.
+   */
+  public static void style(Class<? extends Parent> viewClass) {
+    EZLoader.resources(viewClass);
+  }
+
   /**
    * A private constructor; do not mind this. This is a utility class that doesn't
    * need instances
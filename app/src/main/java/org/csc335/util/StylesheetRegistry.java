@@ -0,0 +1,58 @@
+package org.csc335.util;
+
+import javafx.beans.binding.Bindings;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.scene.Scene;
+
+/**
+ * Keeps the stylesheets of every view class in a single list that is shared by
+ * the scenes, rather than in the stylesheets of every node. However many tiles
+ * or buttons a scene holds, the CSS engine then matches them against one copy
+ * of each stylesheet.
+ *
+ * <p>
+ * Stylesheets are kept in the order their view classes were first loaded. A
+ * view registers its stylesheet before it builds its children, so the rules of
+ * a child still win over equally specific rules of the view holding it, as
+ * they did when every view carried its own stylesheet.
+ * </p>
+ */
+public final class StylesheetRegistry {
+  // The URL of every registered stylesheet, without duplicates.
+  private static final ObservableList<String> STYLESHEETS = FXCollections.observableArrayList();
+
+  /**
+   * Registers a stylesheet with every scene, current and future, that the
+   * registry is attached to.
+   *
+   * @post The stylesheet is part of the registered stylesheets exactly once.
+   * @param stylesheet the URL of the stylesheet
+   */
+  public static void register(String stylesheet) {
+    if (!STYLESHEETS.contains(stylesheet)) {
+      STYLESHEETS.add(stylesheet);
+    }
+  }
+
+  /**
+   * Makes the stylesheets of a scene follow the registered stylesheets,
+   * including the ones registered from now on, for instance by a dialog that is
+   * opened later.
+   *
+   * @pre The stylesheets of the scene are not changed by anything else.
+   * @post The scene uses every registered stylesheet.
+   * @param scene the scene to style
+   */
+  public static void attachTo(Scene scene) {
+    Bindings.bindContent(scene.getStylesheets(), STYLESHEETS);
+  }
+
+  /**
+   * A private constructor; do not mind this. This is a utility class that doesn't
+   * need instances
+   */
+  private StylesheetRegistry() {
+  }
+
+}
@@ -0,0 +1,114 @@
+package org.csc335.javafx_entity_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.csc335.engine.GameEngine;
+import org.csc335.engine.MoveResult;
+import org.csc335.entity.Direction;
+import org.csc335.interfaces.SoundCue;
+import org.csc335.javafx_entity.MergeSound;
+import org.junit.jupiter.api.Test;
+
+public class MergeSoundTest {
+  // The cues waiting on the manual executor.
+  private final List<Runnable> queued = new ArrayList<>();
+
+  // The loudness and rate of every cue played, pair by pair.
+  private final List<double[]> played = new ArrayList<>();
+
+  private boolean enabled = true;
+
+  private final SoundCue cue = new SoundCue() {
+    @Override
+    public boolean isEnabled() {
+      return MergeSoundTest.this.enabled;
+    }
+
+    @Override
+    public void play(double loudness, double rate) {
+      MergeSoundTest.this.played.add(new double[] { loudness, rate });
+    }
+  };
+
+  @Test
+  public void testMovesShareOneCue() {
+    MergeSound sound = new MergeSound(this.queued::add, this.cue);
+
+    sound.moved(merge(1));
+    sound.moved(merge(2));
+    sound.moved(merge(1));
+    assertEquals(1, this.queued.size());
+
+    this.runQueued();
+    assertEquals(1, this.played.size());
+    assertEquals(1.0 + 0.15 * 3, this.played.get(0)[0], 1e-9);
+    assertEquals(1.0 + 0.05 * 3, this.played.get(0)[1], 1e-9);
+
+    // a move after the cue played schedules a new one
+    sound.moved(merge(1));
+    assertEquals(1, this.queued.size());
+    this.runQueued();
+    assertEquals(2, this.played.size());
+    assertEquals(1.0, this.played.get(1)[0], 1e-9);
+    assertEquals(1.0, this.played.get(1)[1], 1e-9);
+  }
+
+  @Test
+  public void testMergesAreCapped() {
+    MergeSound sound = new MergeSound(this.queued::add, this.cue);
+
+    sound.moved(merge(8));
+    sound.moved(merge(5));
+    this.runQueued();
+
+    assertEquals(1, this.played.size());
+    assertEquals(1.0 + 0.15 * 7, this.played.get(0)[0], 1e-9);
+    assertEquals(1.0 + 0.05 * 7, this.played.get(0)[1], 1e-9);
+  }
+
+  @Test
+  public void testNothingToPlay() {
+    MergeSound sound = new MergeSound(this.queued::add, this.cue);
+
+    sound.moved(merge(0));
+    assertTrue(this.queued.isEmpty());
+
+    this.enabled = false;
+    sound.moved(merge(2));
+    assertTrue(this.queued.isEmpty());
+    assertTrue(this.played.isEmpty());
+  }
+
+  private void runQueued() {
+    List<Runnable> cues = new ArrayList<>(this.queued);
+    this.queued.clear();
+    cues.forEach(Runnable::run);
+  }
+
+  /**
+   * Makes a move on a 4x4 board that merges the given number of tile pairs, or
+   * only slides a lone tile if there are none.
+   */
+  private static MoveResult merge(int pairs) {
+    GameEngine engine = new GameEngine(335L);
+    MoveResult move = new MoveResult();
+    engine.clear();
+
+    if (pairs == 0) {
+      engine.setExponent(0, 3, 1);
+    }
+    // two pairs fit in every row: 2 2 2 2 --> 4 4 _ _
+    for (int i = 0; i < pairs; i++) {
+      engine.setExponent(i / 2, 2 * (i % 2), 1);
+      engine.setExponent(i / 2, 2 * (i % 2) + 1, 1);
+    }
+
+    assertTrue(engine.shift(Direction.LEFT, move));
+    assertEquals(pairs, Long.bitCount(move.getMerges()));
+    return move;
+  }
+}
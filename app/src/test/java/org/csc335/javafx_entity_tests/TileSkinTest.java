@@ -0,0 +1,37 @@
+package org.csc335.javafx_entity_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.csc335.entity.TileValue;
+import org.csc335.javafx_entity.TileSkin;
+import org.junit.jupiter.api.Test;
+
+public class TileSkinTest {
+
+  @Test
+  public void testEveryValueIsVisible() {
+    for (TileValue value : TileValue.values()) {
+      TileSkin skin = TileSkin.of(value.exponent());
+
+      assertTrue(skin.getFont().getSize() > 0, value + " has no font size");
+      assertEquals(value.toString(), skin.getText());
+    }
+  }
+
+  @Test
+  public void testFontShrinksWithDigits() {
+    // a longer number never gets a larger font than a shorter one
+    for (TileValue value : TileValue.values()) {
+      TileValue next = value.next();
+      if (next != null) {
+        assertTrue(TileSkin.of(next.exponent()).getFont().getSize() <= TileSkin.of(value.exponent()).getFont().getSize());
+      }
+    }
+  }
+
+  @Test
+  public void testBlankTile() {
+    assertEquals("", TileSkin.of(0).getText());
+  }
+}
@@ -1,15 +1,26 @@
 package org.csc335.model_tests;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.List;
-
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.csc335.engine.BatchResult;
+import org.csc335.engine.Bitboard;
+import org.csc335.engine.Board;
+import org.csc335.engine.BoardSnapshot;
+import org.csc335.engine.GameEngine;
 import org.csc335.entity.Direction;
 import org.csc335.entity.TileValue;
+import org.csc335.interfaces.GameBoardListener;
 import org.csc335.models.GameBoardModel;
-import org.csc335.models.TileModel;
 import org.junit.jupiter.api.Test;
 
 public class GameBoardModelTest {
@@ -18,16 +29,16 @@ public class GameBoardModelTest {
   public void testBlankTiles() {
     GameBoardModel game = new GameBoardModel(4); // should be 14 blank tiles
 
-    updateBlankTiles(game);
-
-    List<TileModel> emptyTiles = getEmptyTileList(game);
+    long emptyTiles = getEmptyTileMask(game);
 
-    assert (emptyTiles.size() == 14);
+    assert (Long.bitCount(emptyTiles) == 14);
+    assertEquals(getBoard(game).emptyMask(), emptyTiles);
 
     for (int i = 13; i >= 0; i--) {
-      updateBlankTiles(game);
       generateRandomValues(game);
-      assertEquals(i, emptyTiles.size() - 1);
+      emptyTiles = getEmptyTileMask(game);
+      assertEquals(i, Long.bitCount(emptyTiles));
+      assertEquals(getBoard(game).emptyMask(), emptyTiles);
     }
   }
 
@@ -35,18 +46,17 @@ public class GameBoardModelTest {
   public void shiftTest() {
     GameBoardModel game = new GameBoardModel(4);
     forceGameStartState(game);
-    TileModel[][] actualBoard = forceGameStartState(game);
 
     
     for (Direction d : Direction.values()) {
       int rowStart = (d == Direction.UP) ? 1: 0;
-      int rowEnd = (d == Direction.DOWN) ? actualBoard.length - 1: actualBoard.length;
+      int rowEnd = (d == Direction.DOWN) ? Bitboard.SIZE - 1: Bitboard.SIZE;
       int colStart = (d == Direction.LEFT) ? 1: 0;
-      int colEnd = (d == Direction.RIGHT) ? actualBoard.length - 1: actualBoard.length;
+      int colEnd = (d == Direction.RIGHT) ? Bitboard.SIZE - 1: Bitboard.SIZE;
 
       for (int r = rowStart; r < rowEnd; r++) {
         for (int c = colStart; c < colEnd; c++) {
-          actualBoard[r][c].setValue(TileValue.T2);
+          setValue(game, r, c, TileValue.T2);
           assert (shiftOnly(game, d));
           forceGameStartState(game);
         }
@@ -57,20 +67,20 @@ public class GameBoardModelTest {
   @Test
   public void testGameEndLose() {
     GameBoardModel game = new GameBoardModel(4);
-    TileModel[][] actualBoard = forceGameStartState(game);
+    forceGameStartState(game);
 
-    gameAlmostOver(actualBoard);
+    gameAlmostOver(game);
     // 1024 512  1024 512
     // 512  1024 512  1024
     // 1024 512  1024 512
     // 256  128  64
-    actualBoard[3][2].setValue(TileValue.T64);
+    setValue(game, 3, 2, TileValue.T64);
 
     shift(game, Direction.LEFT);
-    assert (actualBoard[3][3].isBlank());
+    assert (game.getValue(3, 3).isEmpty());
 
     shift(game, Direction.RIGHT);
-    assert (!actualBoard[3][0].isBlank());
+    assert (game.getValue(3, 0).isPresent());
 
     assert (isGameOver(game));
   }
@@ -78,18 +88,244 @@ public class GameBoardModelTest {
   @Test
   public void testGameEndWin() {
     GameBoardModel game = new GameBoardModel(4);
-    TileModel[][] actualBoard = forceGameStartState(game);
+    forceGameStartState(game);
 
-    gameAlmostOver(actualBoard);
+    gameAlmostOver(game);
     // 1024 512  1024 512
     // 512  1024 512  1024
     // 1024 512  1024 512
     // 256  128  1024
-    actualBoard[3][2].setValue(TileValue.T1024);
+    setValue(game, 3, 2, TileValue.T1024);
 
     shift(game, Direction.UP);
 
-    assert (actualBoard[2][2].getNumericValue() == 2048);
+    assert (game.getValue(2, 2).get().value() == 2048);
+  }
+
+  @Test
+  public void testSeededGamesMatch() {
+    GameBoardModel game1 = new GameBoardModel(4, 335L);
+    GameBoardModel game2 = new GameBoardModel(4, 335L);
+
+    Direction[] directions = Direction.values();
+    for (int i = 0; i < 200; i++) {
+      assertEquals(getBoard(game1), getBoard(game2));
+
+      Direction d = directions[i % directions.length];
+      shift(game1, d);
+      shift(game2, d);
+    }
+
+    assertEquals(game1.getMoves(), game2.getMoves());
+  }
+
+  @Test
+  public void testBoardSizes() {
+    for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++) {
+      GameBoardModel game = new GameBoardModel(size, 335L);
+
+      assertEquals(size, game.getSize());
+      assertEquals(size * size - 2, Long.bitCount(getEmptyTileMask(game)));
+
+      // Slide a tile from the bottom-right corner to the top-left one.
+      forceGameStartState(game);
+      setValue(game, size - 1, size - 1, TileValue.T2);
+      assert (shiftOnly(game, Direction.LEFT));
+      assert (shiftOnly(game, Direction.UP));
+
+      assertEquals(TileValue.T2, game.getValue(0, 0).get());
+      assert (game.getValue(size - 1, size - 1).isEmpty());
+      assertEquals(2, game.getMoves());
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> new GameBoardModel(Board.MIN_SIZE - 1));
+    assertThrows(IllegalArgumentException.class, () -> new GameBoardModel(Board.MAX_SIZE + 1));
+  }
+
+  @Test
+  public void testApplyMoves() {
+    GameBoardModel batch = new GameBoardModel(4, 335L);
+    GameBoardModel single = new GameBoardModel(4, 335L);
+
+    // Slide without merging, so the merge sound never plays.
+    forceGameStartState(batch);
+    forceGameStartState(single);
+    setValue(batch, 0, 0, TileValue.T2);
+    setValue(single, 0, 0, TileValue.T2);
+
+    Direction[] directions = { Direction.RIGHT, Direction.DOWN };
+    BatchResult result = batch.applyMoves(directions);
+    for (Direction d : directions) {
+      shift(single, d);
+    }
+
+    assertEquals(2, result.getMovesApplied());
+    assertEquals(2, batch.getMoves());
+    assertEquals(getBoard(single), getBoard(batch));
+    for (int r = 0; r < Bitboard.SIZE; r++) {
+      for (int c = 0; c < Bitboard.SIZE; c++) {
+        assertEquals(single.getValue(r, c), batch.getValue(r, c));
+      }
+    }
+  }
+
+  @Test
+  public void testDirtyCells() {
+    GameBoardModel game = new GameBoardModel(5, 335L);
+
+    // A new board has every cell to draw, and nothing once they were taken.
+    assertEquals((1L << 25) - 1, game.takeDirtyCells());
+    assertEquals(0L, game.takeDirtyCells());
+
+    // Slide a lone tile, so the merge sound never plays.
+    forceGameStartState(game);
+    setValue(game, 0, 0, TileValue.T2);
+    shift(game, Direction.RIGHT);
+
+    int spawned = game.getLastMove().getSpawnedCell();
+    assertEquals((1L << 0) | (1L << 4) | (1L << spawned), game.takeDirtyCells());
+    assertEquals(0L, game.takeDirtyCells());
+
+    // A move that changes nothing leaves nothing to draw.
+    forceGameStartState(game);
+    setValue(game, 0, 4, TileValue.T2);
+    shift(game, Direction.RIGHT);
+    assertEquals(0L, game.takeDirtyCells());
+
+    // Every cell of an 8x8 board fits the mask.
+    game = new GameBoardModel(8, 335L);
+    assertEquals(-1L, game.takeDirtyCells());
+  }
+
+  @Test
+  public void testSnapshot() {
+    GameBoardModel game = new GameBoardModel(4, 335L);
+    assertEquals(0, game.getSnapshot().getSequence());
+
+    game.reset();
+    BoardSnapshot reset = game.getSnapshot();
+    assertEquals(1, reset.getSequence());
+    assertEquals(0, reset.getMoves());
+
+    // Changes made behind the model's back are not published.
+    forceGameStartState(game);
+    setValue(game, 0, 0, TileValue.T2);
+    assertSame(reset, game.getSnapshot());
+
+    // Slide a lone tile, so the merge sound never plays.
+    game.handleDirection(Direction.RIGHT);
+    BoardSnapshot moved = game.getSnapshot();
+    assertEquals(2, moved.getSequence());
+    assertEquals(1, moved.getMoves());
+    assertEquals(getBoard(game), moved.copyBoard());
+
+    // The next move leaves the snapshot as it was.
+    game.handleDirection(Direction.LEFT);
+    assertEquals(1, moved.getMoves());
+    assertEquals(1, moved.getExponent(0, 3));
+  }
+
+  @Test
+  public void testMergeWithoutAudio() {
+    GameBoardModel game = new GameBoardModel(4, 335L);
+    forceGameStartState(game);
+    setValue(game, 0, 0, TileValue.T2);
+    setValue(game, 0, 1, TileValue.T2);
+
+    // Without an audio backend, merges never start the audio thread.
+    game.handleDirection(Direction.RIGHT);
+    assertEquals(Optional.of(TileValue.T4), game.getValue(0, 3));
+    assertEquals(1L << 3, game.getLastMove().getMerges());
+    assertFalse(Thread.getAllStackTraces().keySet().stream().anyMatch(t -> t.getName().equals("audio")));
+  }
+
+  @Test
+  public void testEngineThread() throws InterruptedException {
+    GameBoardModel game = new GameBoardModel(4, 335L);
+    BlockingQueue<Runnable> updates = new LinkedBlockingQueue<>();
+
+    // Slide a lone tile, so the merge sound never plays.
+    forceGameStartState(game);
+    setValue(game, 0, 0, TileValue.T2);
+    game.startEngineThread(updates::add);
+    game.handleDirection(Direction.RIGHT);
+
+    // Nothing changes until the published snapshot is applied.
+    assertEquals(Optional.of(TileValue.T2), game.getValue(0, 0));
+    assertEquals(0, game.getMoves());
+
+    updates.poll(5, TimeUnit.SECONDS).run();
+    assertEquals(Optional.empty(), game.getValue(0, 0));
+    assertEquals(Optional.of(TileValue.T2), game.getValue(0, 3));
+    assertEquals(1, game.getMoves());
+    assertEquals(Direction.RIGHT, game.getLastMove().getDirection());
+    assertThrows(IllegalStateException.class, () -> game.applyMoves(new Direction[] { Direction.LEFT }));
+  }
+
+  @Test
+  public void testResetDropsStaleSnapshots() throws InterruptedException {
+    int[] score = { 0 };
+    int[] gameOvers = { 0 };
+    GameBoardListener listener = new GameBoardListener() {
+      @Override
+      public void scoreChanged(int diff) {
+        score[0] += diff;
+      }
+
+      @Override
+      public void gameOver() {
+        gameOvers[0]++;
+      }
+
+      @Override
+      public void tileMoved() {
+      }
+    };
+
+    // A merge queued before the reset must not score in the new game.
+    GameBoardModel merged = new GameBoardModel(4, 335L);
+    BlockingQueue<Runnable> updates = new LinkedBlockingQueue<>();
+    forceGameStartState(merged);
+    setValue(merged, 0, 0, TileValue.T2);
+    setValue(merged, 0, 1, TileValue.T2);
+    merged.addGameBoardListener(listener);
+    merged.startEngineThread(updates::add);
+    merged.handleDirection(Direction.LEFT);
+    merged.reset();
+
+    drain(updates, 2);
+    assertEquals(0, score[0]);
+    assertEquals(0, merged.getMoves());
+    int blanks = 0;
+    for (int row = 0; row < 4; row++) {
+      for (int col = 0; col < 4; col++) {
+        blanks += merged.getValue(row, col).isEmpty() ? 1 : 0;
+      }
+    }
+    assertEquals(14, blanks);
+
+    // Neither may the end of a game lost before the reset.
+    GameBoardModel lost = new GameBoardModel(4, 335L);
+    forceGameStartState(lost);
+    gameAlmostOver(lost);
+    setValue(lost, 3, 2, TileValue.T64);
+    lost.addGameBoardListener(listener);
+    lost.startEngineThread(updates::add);
+    // the tile spawned in the blank cell left behind leaves no legal move
+    lost.handleDirection(Direction.RIGHT);
+    lost.reset();
+
+    drain(updates, 2);
+    assertEquals(0, gameOvers[0]);
+    assertEquals(0, lost.getMoves());
+
+    // Moves queued after the reset are applied as usual; with two tiles on the
+    // board, at least one direction changes it.
+    for (Direction d : Direction.values()) {
+      lost.handleDirection(d);
+    }
+    drain(updates, 1);
+    assertEquals(1, lost.getMoves());
   }
 
   @Test
@@ -105,27 +341,36 @@ public class GameBoardModelTest {
     assert(game.shouldRecordKeystrokes());
   }
 
-  private void gameAlmostOver(TileModel[][] actualBoard) {
-    actualBoard[0][0].setValue(TileValue.T1024);
-    actualBoard[0][1].setValue(TileValue.T512);
-    actualBoard[0][2].setValue(TileValue.T1024);
-    actualBoard[0][3].setValue(TileValue.T512);
+  /**
+   * Runs the given number of updates published by an engine thread, in order.
+   */
+  private void drain(BlockingQueue<Runnable> updates, int count) throws InterruptedException {
+    for (int i = 0; i < count; i++) {
+      updates.poll(5, TimeUnit.SECONDS).run();
+    }
+  }
+
+  private void gameAlmostOver(GameBoardModel game) {
+    setValue(game, 0, 0, TileValue.T1024);
+    setValue(game, 0, 1, TileValue.T512);
+    setValue(game, 0, 2, TileValue.T1024);
+    setValue(game, 0, 3, TileValue.T512);
     // 1024 512 1024 512
 
-    actualBoard[1][0].setValue(TileValue.T512);
-    actualBoard[1][1].setValue(TileValue.T1024);
-    actualBoard[1][2].setValue(TileValue.T512);
-    actualBoard[1][3].setValue(TileValue.T1024);
+    setValue(game, 1, 0, TileValue.T512);
+    setValue(game, 1, 1, TileValue.T1024);
+    setValue(game, 1, 2, TileValue.T512);
+    setValue(game, 1, 3, TileValue.T1024);
     // 512 1024 512 1024
 
-    actualBoard[2][0].setValue(TileValue.T1024);
-    actualBoard[2][1].setValue(TileValue.T512);
-    actualBoard[2][2].setValue(TileValue.T1024);
-    actualBoard[2][3].setValue(TileValue.T512);
+    setValue(game, 2, 0, TileValue.T1024);
+    setValue(game, 2, 1, TileValue.T512);
+    setValue(game, 2, 2, TileValue.T1024);
+    setValue(game, 2, 3, TileValue.T512);
     // 1024 512 1024 512
 
-    actualBoard[3][0].setValue(TileValue.T256);
-    actualBoard[3][1].setValue(TileValue.T128);
+    setValue(game, 3, 0, TileValue.T256);
+    setValue(game, 3, 1, TileValue.T128);
     // 256 128
   }
 
@@ -151,36 +396,26 @@ public class GameBoardModelTest {
   }
 
   private boolean isGameOver(GameBoardModel game) {
-    try {
-      Method method = GameBoardModel.class.getDeclaredMethod("testGameEndMethod");
-      method.setAccessible(true);
-      return (boolean) method.invoke(game);
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    return false;
+    return game.getLegalMoves() == 0;
   }
 
-  private List<TileModel> getEmptyTileList(GameBoardModel game) {
-    List<TileModel> emptyTiles = null;
+  private GameEngine getEngine(GameBoardModel game) {
     try {
-      Field field = GameBoardModel.class.getDeclaredField("emptyTiles");
+      Field field = GameBoardModel.class.getDeclaredField("engine");
       field.setAccessible(true);
-      emptyTiles = (List<TileModel>) field.get(game);
+      return (GameEngine) field.get(game);
     } catch (Exception e) {
       e.printStackTrace();
     }
-    return emptyTiles;
+    return null;
   }
 
-  private void updateBlankTiles(GameBoardModel game) {
-    try {
-      Method method = GameBoardModel.class.getDeclaredMethod("updateBlankTiles");
-      method.setAccessible(true);
-      method.invoke(game);
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
+  private long getEmptyTileMask(GameBoardModel game) {
+    return getEngine(game).getEmptyTiles();
+  }
+
+  private Board getBoard(GameBoardModel game) {
+    return getEngine(game).getBoard();
   }
 
   private void generateRandomValues(GameBoardModel game) {
@@ -193,22 +428,12 @@ public class GameBoardModelTest {
     }
   }
 
-  private TileModel[][] forceGameStartState(GameBoardModel game) {
-    TileModel[][] gameBoard = null;
-    try {
-      Field field = GameBoardModel.class.getDeclaredField("board");
-      field.setAccessible(true);
-      gameBoard = (TileModel[][]) field.get(game);
-    } catch (Exception e) {
-      e.printStackTrace();
-    }
-    for (int i = 0; i < gameBoard.length; ++i) {
-      for (int j = 0; j < gameBoard[i].length; ++j) {
-        gameBoard[i][j].makeBlank();
-      }
-    }
+  private void forceGameStartState(GameBoardModel game) {
+    getEngine(game).clear();
+  }
 
-    return gameBoard;
+  private void setValue(GameBoardModel game, int row, int col, TileValue value) {
+    getEngine(game).setExponent(row, col, value.exponent());
   }
 
   private void printDebugHelper(GameBoardModel game) {
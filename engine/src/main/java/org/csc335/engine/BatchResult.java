@@ -0,0 +1,83 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * The outcome of a whole sequence of moves applied by
+ * {@link GameEngine#applyMoves(Direction[], SpawnSource)}, summed up once
+ * rather than reported move by move.
+ */
+public class BatchResult {
+  // The game over index of a sequence after which the game was still going.
+  public static final int NOT_OVER = -1;
+
+  private final Board board;
+  private final long score;
+  private final int movesApplied;
+  private final int gameOverIndex;
+
+  /**
+   * Creates the result of a sequence of moves.
+   *
+   * @param board         a copy of the board after the last move
+   * @param score         the score gained by the whole sequence
+   * @param movesApplied  the number of moves that changed the board
+   * @param gameOverIndex the index of the first move skipped because no legal
+   *                      moves were left, or {@link #NOT_OVER}
+   */
+  public BatchResult(Board board, long score, int movesApplied, int gameOverIndex) {
+    this.board = board;
+    this.score = score;
+    this.movesApplied = movesApplied;
+    this.gameOverIndex = gameOverIndex;
+  }
+
+  /**
+   * Retrieves the board as it was after the last move.
+   *
+   * @return A copy of the board, which later moves of the game do not change.
+   */
+  public Board getBoard() {
+    return this.board;
+  }
+
+  /**
+   * Retrieves the score gained by the whole sequence of moves.
+   *
+   * @return The sum of the values of every tile created by a merge.
+   */
+  public long getScore() {
+    return this.score;
+  }
+
+  /**
+   * Retrieves the number of moves that changed the board. Moves that did not
+   * change it spawned no tile and count for nothing, just like in the game.
+   *
+   * @return The number of moves applied.
+   */
+  public int getMovesApplied() {
+    return this.movesApplied;
+  }
+
+  /**
+   * Retrieves the index, in the sequence, of the first move that was skipped
+   * because the game was over. It is 0 if the game was over before the first
+   * move, and the length of the sequence if its last move ended the game.
+   *
+   * @return The index of the first move after the end of the game, or
+   *         {@link #NOT_OVER} if the game was still going after the last move.
+   */
+  public int getGameOverIndex() {
+    return this.gameOverIndex;
+  }
+
+  /**
+   * Checks whether the sequence of moves ended the game.
+   *
+   * @return {@code true} if no legal moves were left, {@code false} otherwise.
+   */
+  public boolean isGameOver() {
+    return this.gameOverIndex != NOT_OVER;
+  }
+}
@@ -0,0 +1,183 @@
+package org.csc335.engine;
+
+/**
+ * Utility methods for a 4x4 board of 2048 packed into a single {@code long}.
+ * Each cell takes 4 bits and stores the exponent of its tile (1 is a 2, 2 is a
+ * 4, 11 is a 2048), with 0 marking a blank cell. Cell (row, col) lives in the
+ * nibble at index {@code 4 * row + col}, so every row is a contiguous 16-bit
+ * chunk whose lowest nibble is column 0.
+ */
+public final class Bitboard {
+  // The width and height of a packed board.
+  public static final int SIZE = 4;
+
+  // The number of bits taken up by a single cell.
+  public static final int CELL_BITS = 4;
+
+  // Masks a single cell once it has been shifted down to bit 0.
+  public static final int CELL_MASK = 0xF;
+
+  // Masks a single row once it has been shifted down to bit 0.
+  public static final int ROW_MASK = 0xFFFF;
+
+  // A board with no tiles on it.
+  public static final long EMPTY = 0L;
+
+  // The empty cell mask of a board with no tiles on it.
+  public static final int ALL_CELLS = 0xFFFF;
+
+  /**
+   * A private constructor; this is a utility class that doesn't need instances.
+   */
+  private Bitboard() {
+  }
+
+  /**
+   * Retrieves the exponent stored in the cell at the given position.
+   *
+   * @pre 0 <= row, col < SIZE
+   * @param board the packed board
+   * @param row   the row index of the cell (0-based index)
+   * @param col   the column index of the cell (0-based index)
+   *
+   * @return The exponent of the tile in the cell, or 0 if the cell is blank.
+   */
+  public static int exponent(long board, int row, int col) {
+    return (int) (board >>> shift(row, col)) & CELL_MASK;
+  }
+
+  /**
+   * Returns a copy of the board with the cell at the given position replaced.
+   *
+   * @pre 0 <= row, col < SIZE and 0 <= exponent <= CELL_MASK
+   * @param board    the packed board
+   * @param row      the row index of the cell (0-based index)
+   * @param col      the column index of the cell (0-based index)
+   * @param exponent the new exponent of the cell, or 0 to make it blank
+   *
+   * @return The packed board with the cell updated.
+   */
+  public static long withExponent(long board, int row, int col, int exponent) {
+    int shift = shift(row, col);
+    return (board & ~((long) CELL_MASK << shift)) | ((long) exponent << shift);
+  }
+
+  /**
+   * Retrieves a whole row of the board as a 16-bit value whose lowest nibble is
+   * column 0.
+   *
+   * @pre 0 <= row < SIZE
+   * @param board the packed board
+   * @param row   the row index (0-based index)
+   *
+   * @return The packed row.
+   */
+  public static int row(long board, int row) {
+    return (int) (board >>> (row * SIZE * CELL_BITS)) & ROW_MASK;
+  }
+
+  /**
+   * Returns a copy of the board with a whole row replaced.
+   *
+   * @pre 0 <= row < SIZE and bits fits in 16 bits
+   * @param board the packed board
+   * @param row   the row index (0-based index)
+   * @param bits  the new packed row
+   *
+   * @return The packed board with the row updated.
+   */
+  public static long withRow(long board, int row, int bits) {
+    int shift = row * SIZE * CELL_BITS;
+    return (board & ~((long) ROW_MASK << shift)) | ((long) bits << shift);
+  }
+
+  /**
+   * Reverses the order of the cells in a packed row, so that column 0 becomes
+   * column 3 and vice versa.
+   *
+   * @param row the packed row
+   *
+   * @return The packed row with its cells in reverse order.
+   */
+  public static int reverseRow(int row) {
+    return ((row & 0xF) << 12) | ((row & 0xF0) << 4) | ((row >>> 4) & 0xF0) | ((row >>> 12) & 0xF);
+  }
+
+  /**
+   * Transposes the board so that rows become columns. Moving a transposed board
+   * left or right is the same as moving the original board up or down.
+   *
+   * @param board the packed board
+   *
+   * @return The transposed board.
+   */
+  public static long transpose(long board) {
+    // Swap the 2x2 blocks of nibbles that sit off the diagonal of each quadrant.
+    long a1 = board & 0xF0F00F0FF0F00F0FL;
+    long a2 = board & 0x0000F0F00000F0F0L;
+    long a3 = board & 0x0F0F00000F0F0000L;
+    long a = a1 | (a2 << 12) | (a3 >>> 12);
+
+    // Swap the two quadrants that sit off the diagonal of the whole board.
+    long b1 = a & 0xFF00FF0000FF00FFL;
+    long b2 = a & 0x00FF00FF00000000L;
+    long b3 = a & 0x00000000FF00FF00L;
+    return b1 | (b2 >>> 24) | (b3 << 24);
+  }
+
+  /**
+   * Computes a 16-bit mask of the blank cells of the board, where bit
+   * {@code 4 * row + col} is set if the cell (row, col) is blank. This uses a
+   * handful of bit operations instead of visiting every cell.
+   *
+   * @param board the packed board
+   *
+   * @return The mask of blank cells.
+   */
+  public static int emptyMask(long board) {
+    // Fold every nibble onto its lowest bit, which is then set only for blank
+    // cells.
+    long x = board | (board >>> 2);
+    x |= x >>> 1;
+    x = ~x & 0x1111111111111111L;
+
+    // Gather the lowest bit of every nibble into 16 consecutive bits.
+    x = (x | (x >>> 3)) & 0x0303030303030303L;
+    x = (x | (x >>> 6)) & 0x000F000F000F000FL;
+    x = (x | (x >>> 12)) & 0x000000FF000000FFL;
+    x = (x | (x >>> 24)) & ALL_CELLS;
+    return (int) x;
+  }
+
+  /**
+   * Finds the position of the k-th set bit of a mask, counting from the lowest
+   * bit. Together with {@link Long#bitCount(long)} this picks a random blank
+   * cell out of an {@link #emptyMask(long)}, or out of the mask of a larger
+   * {@link Board}, without building a list.
+   *
+   * @pre 0 <= k < Long.bitCount(mask)
+   * @param mask the mask to search
+   * @param k    the number of set bits to skip
+   *
+   * @return The index of the k-th set bit.
+   */
+  public static int selectBit(long mask, int k) {
+    // Clear the lowest set bit k times, leaving the k-th one lowest.
+    for (int i = 0; i < k; i++) {
+      mask &= mask - 1;
+    }
+    return Long.numberOfTrailingZeros(mask);
+  }
+
+  /**
+   * Computes the bit offset of the cell at the given position.
+   *
+   * @param row the row index of the cell (0-based index)
+   * @param col the column index of the cell (0-based index)
+   *
+   * @return The bit offset of the cell's lowest bit.
+   */
+  private static int shift(int row, int col) {
+    return (row * SIZE + col) * CELL_BITS;
+  }
+}
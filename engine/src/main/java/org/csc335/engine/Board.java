@@ -0,0 +1,138 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * A square board of 2048 whose cells store the exponent of their tile (1 is a
+ * 2, 2 is a 4, 11 is a 2048), with 0 marking a blank cell. Cells are numbered
+ * row by row from the top-left, so cell (row, col) has the index
+ * {@code size * row + col}, which is also its bit in {@link #emptyMask()}.
+ */
+public interface Board {
+  // The smallest supported width and height of a board.
+  int MIN_SIZE = 3;
+
+  // The largest supported width and height of a board. Every cell of a board
+  // this size still fits in the 64 bits of an empty cell mask.
+  int MAX_SIZE = 8;
+
+  /**
+   * Creates an empty board of the given size. The standard 4x4 board is packed
+   * into a single {@code long} and moved with the precomputed row tables of the
+   * {@link MoveEngine}; every other size stores a byte per cell.
+   *
+   * @pre MIN_SIZE <= size <= MAX_SIZE
+   * @param size the width and height of the board
+   *
+   * @return A board of the given size with no tiles on it.
+   * @throws IllegalArgumentException if the size is not supported.
+   */
+  static Board of(int size) {
+    if (size < MIN_SIZE || size > MAX_SIZE) {
+      throw new IllegalArgumentException("Unsupported board size: " + size);
+    }
+
+    if (size == Bitboard.SIZE) {
+      return new NibbleBoard();
+    }
+    return new ByteBoard(size);
+  }
+
+  /**
+   * Retrieves the width and height of the board.
+   *
+   * @return The number of cells in every row and every column.
+   */
+  int size();
+
+  /**
+   * Retrieves the exponent of the tile at the specified position.
+   *
+   * @param row the row index of the cell (0-based index)
+   * @param col the column index of the cell (0-based index)
+   *
+   * @return The exponent of the tile, or 0 if the cell is blank.
+   */
+  int getExponent(int row, int col);
+
+  /**
+   * Replaces the exponent of the tile at the specified position.
+   *
+   * @pre 0 <= exponent <= maxExponent()
+   * @param row      the row index of the cell (0-based index)
+   * @param col      the column index of the cell (0-based index)
+   * @param exponent the new exponent, or 0 to blank the cell
+   */
+  void setExponent(int row, int col, int exponent);
+
+  /**
+   * Retrieves the largest exponent a cell of this board can hold. Two tiles of
+   * this exponent never merge.
+   *
+   * @return The largest exponent a cell can hold.
+   */
+  int maxExponent();
+
+  /**
+   * Creates a copy of the board, which later moves of this board do not change.
+   *
+   * @return A board of the same kind, with the same size and tiles.
+   */
+  Board copy();
+
+  /**
+   * Blanks every cell of the board.
+   *
+   * @post {@link #emptyMask()} has a bit set for every cell.
+   */
+  void clear();
+
+  /**
+   * Moves the tiles in the given direction, merging equal neighbours once.
+   *
+   * @post If the board changed, {@link #lastScore()} holds the score gained by
+   *       the move.
+   * @param direction the direction in which the tiles move
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  boolean shift(Direction direction);
+
+  /**
+   * Moves the tiles in the given direction like {@link #shift(Direction)}, and
+   * records which tile went where.
+   *
+   * @post The result describes the move: its direction, the slides and merges of
+   *       its tiles, and the score it gained. No tile has been spawned yet.
+   * @param direction the direction in which the tiles move
+   * @param result    the record to fill, whose previous contents are discarded
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  boolean shift(Direction direction, MoveResult result);
+
+  /**
+   * Retrieves the score gained by the last {@link #shift(Direction)} that
+   * changed the board.
+   *
+   * @return The sum of the values of every tile created by the last move.
+   */
+  long lastScore();
+
+  /**
+   * Computes the directions in which the board can currently be moved.
+   *
+   * @return A mask of {@link Direction#mask()} bits, with a bit set for every
+   *         direction that would change the board.
+   */
+  int legalMoves();
+
+  /**
+   * Computes the mask of blank cells, where bit {@code size * row + col} is set
+   * if the cell (row, col) is blank. It takes a few bit operations rather than
+   * a walk over the cells, so it can be called after every move.
+   *
+   * @return The mask of blank cells.
+   */
+  long emptyMask();
+}
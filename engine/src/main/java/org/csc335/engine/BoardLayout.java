@@ -0,0 +1,99 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * Precomputed traversal order of the cells of a board of a given size. For
+ * every direction the cells are split into lines (the rows for LEFT and RIGHT,
+ * the columns for UP and DOWN), and each line lists its cells starting from the
+ * edge the tiles slide toward. A move then walks flat arrays of cell indices
+ * instead of branching on the direction for every cell.
+ *
+ * <p>
+ * The layouts of every supported size are built once when the class is loaded,
+ * so boards of the same size share them.
+ * </p>
+ */
+public final class BoardLayout {
+  private static final BoardLayout[] LAYOUTS = new BoardLayout[Board.MAX_SIZE + 1];
+
+  static {
+    for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++) {
+      LAYOUTS[size] = new BoardLayout(size);
+    }
+  }
+
+  private final int size;
+  private final int[][] lines;
+
+  private BoardLayout(int size) {
+    Direction[] directions = Direction.values();
+
+    this.size = size;
+    this.lines = new int[directions.length][];
+    for (Direction direction : directions) {
+      this.lines[direction.ordinal()] = this.buildLines(direction);
+    }
+  }
+
+  /**
+   * Retrieves the shared layout of boards of the given size.
+   *
+   * @pre Board.MIN_SIZE <= size <= Board.MAX_SIZE
+   * @param size the width and height of the board
+   *
+   * @return The layout of boards of the given size.
+   */
+  public static BoardLayout forSize(int size) {
+    return LAYOUTS[size];
+  }
+
+  /**
+   * Retrieves the width and height of the boards this layout describes.
+   *
+   * @return The number of cells in every line.
+   */
+  public int size() {
+    return this.size;
+  }
+
+  /**
+   * Retrieves the lines of cells for a move in the given direction. Line
+   * {@code l} takes up the indices {@code [l * size, (l + 1) * size)} of the
+   * returned array, starting with the cell the tiles of that line slide toward.
+   * The array is shared and must not be modified.
+   *
+   * @param direction the direction of the move
+   *
+   * @return The cell indices of every line, one line after the other.
+   */
+  public int[] lines(Direction direction) {
+    return this.lines[direction.ordinal()];
+  }
+
+  /**
+   * Lists the cells of every line for a move in the given direction.
+   *
+   * @param direction the direction of the move
+   *
+   * @return The cell indices of every line, one line after the other.
+   */
+  private int[] buildLines(Direction direction) {
+    int[] cells = new int[this.size * this.size];
+    int last = this.size - 1;
+
+    for (int line = 0; line < this.size; line++) {
+      for (int k = 0; k < this.size; k++) {
+        int cell = switch (direction) {
+          case Direction.LEFT -> line * this.size + k;
+          case Direction.RIGHT -> line * this.size + (last - k);
+          case Direction.UP -> k * this.size + line;
+          case Direction.DOWN -> (last - k) * this.size + line;
+        };
+        cells[line * this.size + k] = cell;
+      }
+    }
+
+    return cells;
+  }
+}
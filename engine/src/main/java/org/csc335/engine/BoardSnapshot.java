@@ -0,0 +1,114 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * An immutable picture of a game taken right after a move: its board, score,
+ * number of moves and legal moves. A snapshot holds a copy rather than a view
+ * of the board, which is a single packed long on a 4x4 board, so any thread
+ * can read it while the game goes on. The record of the move that led there is
+ * left out, so that publishing a snapshot never copies one.
+ */
+public final class BoardSnapshot {
+  private final Board board;
+  private final long score;
+  private final int moves;
+  private final int legalMoves;
+  private final long sequence;
+
+  /**
+   * Creates a snapshot of a game.
+   *
+   * @param board      a copy of the board that no one else holds
+   * @param score      the total score of the game
+   * @param moves      the number of moves that changed the board
+   * @param legalMoves the mask of {@link Direction#mask()} bits of the
+   *                   directions that would change the board
+   * @param sequence   the number of snapshots taken of the game before this one
+   */
+  BoardSnapshot(Board board, long score, int moves, int legalMoves, long sequence) {
+    this.board = board;
+    this.score = score;
+    this.moves = moves;
+    this.legalMoves = legalMoves;
+    this.sequence = sequence;
+  }
+
+  /**
+   * Retrieves the width and height of the board.
+   *
+   * @return The number of cells in every row and every column.
+   */
+  public int size() {
+    return this.board.size();
+  }
+
+  /**
+   * Retrieves the exponent of the tile at the specified position.
+   *
+   * @param row the row index of the cell (0-based index)
+   * @param col the column index of the cell (0-based index)
+   *
+   * @return The exponent of the tile, or 0 if the cell is blank.
+   */
+  public int getExponent(int row, int col) {
+    return this.board.getExponent(row, col);
+  }
+
+  /**
+   * Creates a copy of the board, which the caller is free to change.
+   *
+   * @return A copy of the board of the snapshot.
+   */
+  public Board copyBoard() {
+    return this.board.copy();
+  }
+
+  /**
+   * Retrieves the total score of the game.
+   *
+   * @return The sum of the values of every tile created by a merge.
+   */
+  public long getScore() {
+    return this.score;
+  }
+
+  /**
+   * Retrieves the number of moves that changed the board.
+   *
+   * @return The number of moves made.
+   */
+  public int getMoves() {
+    return this.moves;
+  }
+
+  /**
+   * Retrieves the directions in which the board can be moved.
+   *
+   * @return A mask of {@link Direction#mask()} bits, with a bit set for every
+   *         direction that would change the board.
+   */
+  public int getLegalMoves() {
+    return this.legalMoves;
+  }
+
+  /**
+   * Checks whether the game is over, which is the case once no direction can
+   * change the board.
+   *
+   * @return {@code true} if no legal moves are left, {@code false} otherwise.
+   */
+  public boolean isGameOver() {
+    return this.legalMoves == 0;
+  }
+
+  /**
+   * Retrieves the position of the snapshot among the snapshots of its game. A
+   * reader that saw the same sequence number twice saw the same board.
+   *
+   * @return The number of snapshots taken of the game before this one.
+   */
+  public long getSequence() {
+    return this.sequence;
+  }
+}
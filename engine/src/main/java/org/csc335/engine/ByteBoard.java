@@ -0,0 +1,245 @@
+package org.csc335.engine;
+
+import java.util.Arrays;
+
+import org.csc335.entity.Direction;
+import org.csc335.entity.TileValue;
+
+/**
+ * A {@link Board} of any supported size that stores the exponent of every cell
+ * in its own byte, which holds every {@link TileValue}. Moves walk the
+ * precomputed lines of its {@link BoardLayout} and collapse every line in
+ * place, so they allocate nothing and take time linear in the number of cells.
+ * A mask of the occupied cells is kept up to date as cells are written, so
+ * {@link #emptyMask()} never walks the board.
+ */
+public class ByteBoard implements Board {
+  // The largest exponent a cell can hold, which is that of the largest tile
+  // value.
+  private static final int MAX_EXPONENT = TileValue.MAX_EXPONENT;
+
+  private final BoardLayout layout;
+  private final byte[] cells;
+
+  // The occupied cells, where bit size * row + col is set if the cell (row,
+  // col) holds a tile.
+  private long filled;
+  private long lastScore;
+
+  /**
+   * Creates a board with the same size and tiles as the given one.
+   *
+   * @param board the board to copy
+   */
+  public ByteBoard(Board board) {
+    this(board.size());
+
+    int size = board.size();
+    for (int row = 0; row < size; row++) {
+      for (int col = 0; col < size; col++) {
+        this.setExponent(row, col, board.getExponent(row, col));
+      }
+    }
+  }
+
+  /**
+   * Creates an empty board of the given size.
+   *
+   * @pre Board.MIN_SIZE <= size <= Board.MAX_SIZE
+   * @param size the width and height of the board
+   */
+  public ByteBoard(int size) {
+    this.layout = BoardLayout.forSize(size);
+    this.cells = new byte[size * size];
+  }
+
+  @Override
+  public int size() {
+    return this.layout.size();
+  }
+
+  @Override
+  public int getExponent(int row, int col) {
+    return this.cells[row * this.layout.size() + col];
+  }
+
+  @Override
+  public void setExponent(int row, int col, int exponent) {
+    int cell = row * this.layout.size() + col;
+    this.cells[cell] = (byte) exponent;
+    this.filled = exponent == 0 ? this.filled & ~(1L << cell) : this.filled | (1L << cell);
+  }
+
+  @Override
+  public int maxExponent() {
+    return MAX_EXPONENT;
+  }
+
+  @Override
+  public Board copy() {
+    ByteBoard copy = new ByteBoard(this.layout.size());
+    System.arraycopy(this.cells, 0, copy.cells, 0, this.cells.length);
+    copy.filled = this.filled;
+    return copy;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(this.cells, (byte) 0);
+    this.filled = 0L;
+  }
+
+  @Override
+  public boolean shift(Direction direction) {
+    return this.collapse(direction, null);
+  }
+
+  @Override
+  public boolean shift(Direction direction, MoveResult result) {
+    result.reset(direction);
+    if (!this.collapse(direction, result)) {
+      return false;
+    }
+
+    result.setScore(this.lastScore);
+    return true;
+  }
+
+  /**
+   * Collapses every line of the board towards the edge of the given direction,
+   * optionally recording where every tile went.
+   *
+   * @param direction the direction in which the tiles move
+   * @param result    the record of the slides and merges, or {@code null} if
+   *                  nobody is interested in them
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  private boolean collapse(Direction direction, MoveResult result) {
+    int[] lines = this.layout.lines(direction);
+    int size = this.layout.size();
+    boolean changed = false;
+    long score = 0;
+
+    for (int start = 0; start < lines.length; start += size) {
+      // The number of tiles already placed in this line, and the exponent of the
+      // last one if it may still merge.
+      int placed = 0;
+      int mergeable = 0;
+
+      for (int k = 0; k < size; k++) {
+        int cell = lines[start + k];
+        int exponent = this.cells[cell];
+        if (exponent == 0) {
+          continue;
+        }
+
+        // Lift the tile off its cell; it lands at or before its old position, so
+        // no tile that has yet to be read is overwritten.
+        this.cells[cell] = 0;
+        this.filled &= ~(1L << cell);
+
+        if (exponent == mergeable) {
+          int merged = exponent + 1;
+          int target = lines[start + placed - 1];
+          this.cells[target] = (byte) merged;
+          this.filled |= 1L << target;
+          score += 1L << merged;
+          mergeable = 0;
+          changed = true;
+
+          if (result != null) {
+            result.addMerge(target);
+            result.addSlide(cell, target);
+          }
+        } else {
+          int target = lines[start + placed];
+          this.cells[target] = (byte) exponent;
+          this.filled |= 1L << target;
+          mergeable = exponent < MAX_EXPONENT ? exponent : 0;
+          placed++;
+
+          if (target != cell) {
+            changed = true;
+            if (result != null) {
+              result.addSlide(cell, target);
+            }
+          }
+        }
+      }
+    }
+
+    if (changed) {
+      this.lastScore = score;
+    }
+    return changed;
+  }
+
+  @Override
+  public long lastScore() {
+    return this.lastScore;
+  }
+
+  @Override
+  public int legalMoves() {
+    int legal = 0;
+
+    for (Direction direction : Direction.values()) {
+      if (this.canShift(direction)) {
+        legal |= direction.mask();
+      }
+    }
+    return legal;
+  }
+
+  @Override
+  public long emptyMask() {
+    // Keep one bit per cell; an 8x8 board uses all 64 of them.
+    return ~this.filled & (-1L >>> (64 - this.cells.length));
+  }
+
+  /**
+   * Checks whether a move in the given direction would change the board, which
+   * is the case if a tile has a blank cell ahead of it or two equal tiles meet.
+   *
+   * @param direction the direction of the move
+   *
+   * @return {@code true} if the move would change the board, {@code false}
+   *         otherwise.
+   */
+  private boolean canShift(Direction direction) {
+    int[] lines = this.layout.lines(direction);
+    int size = this.layout.size();
+
+    for (int start = 0; start < lines.length; start += size) {
+      boolean blankAhead = false;
+      int previous = 0;
+
+      for (int k = 0; k < size; k++) {
+        int exponent = this.cells[lines[start + k]];
+        if (exponent == 0) {
+          blankAhead = true;
+        } else if (blankAhead || (exponent == previous && exponent < MAX_EXPONENT)) {
+          return true;
+        } else {
+          previous = exponent;
+        }
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || other.getClass() != this.getClass()) {
+      return false;
+    }
+
+    return Arrays.equals(this.cells, ((ByteBoard) other).cells);
+  }
+
+  @Override
+  public int hashCode() {
+    return Arrays.hashCode(this.cells);
+  }
+}
@@ -0,0 +1,139 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * A bounded first-in first-out queue of moves waiting to be applied, backed by
+ * a ring buffer that is allocated once. Keys pressed by the player are queued
+ * in order and are never dropped, while the moves produced by holding a key
+ * down are coalesced once they arrive faster than a configurable rate, so
+ * turbo input cannot pile up moves faster than the game can show them.
+ */
+public class DirectionQueue {
+  // The time of the last queued move before any move was queued.
+  private static final long NEVER = Long.MIN_VALUE;
+
+  private final Direction[] ring;
+
+  // The index of the oldest queued move, and the number of queued moves.
+  private int head;
+  private int count;
+
+  // The shortest time, in nanoseconds, between two moves produced by holding a
+  // key down.
+  private final long repeatInterval;
+
+  // The time of the last move that was queued, in nanoseconds, or NEVER.
+  private long lastQueued;
+
+  /**
+   * Creates an empty queue.
+   *
+   * @pre capacity > 0, repeatInterval >= 0
+   * @param capacity       the largest number of moves the queue can hold
+   * @param repeatInterval the shortest time, in nanoseconds, between two moves
+   *                       produced by holding a key down. Repeats arriving
+   *                       sooner than that after the last queued move are
+   *                       coalesced into it.
+   * @throws IllegalArgumentException if the capacity is not positive or the
+   *                                  interval is negative.
+   */
+  public DirectionQueue(int capacity, long repeatInterval) {
+    if (capacity <= 0 || repeatInterval < 0) {
+      throw new IllegalArgumentException("Invalid queue: " + capacity + " moves, " + repeatInterval + " ns");
+    }
+
+    this.ring = new Direction[capacity];
+    this.repeatInterval = repeatInterval;
+    this.lastQueued = NEVER;
+  }
+
+  /**
+   * Offers a move to the queue.
+   *
+   * @pre direction != null
+   * @post A pressed key, or a repeat that is not coalesced, is queued after
+   *       every move already queued, unless the queue is full.
+   * @param direction the direction of the move
+   * @param repeat    {@code true} if the move was produced by holding a key
+   *                  down, {@code false} if the key was just pressed
+   * @param now       the time of the key event, in nanoseconds
+   *
+   * @return {@code false} if the queue is full and the pressed key was not
+   *         queued, in which case the caller must make room and offer it again,
+   *         or {@code true} otherwise. A repeat is never worth waiting for, so
+   *         it is coalesced rather than refused when the queue is full.
+   */
+  public boolean offer(Direction direction, boolean repeat, long now) {
+    boolean tooSoon = this.lastQueued != NEVER && now - this.lastQueued < this.repeatInterval;
+    if (repeat && (this.isFull() || tooSoon)) {
+      return true;
+    }
+
+    if (this.isFull()) {
+      return false;
+    }
+
+    this.ring[(this.head + this.count) % this.ring.length] = direction;
+    this.count++;
+    this.lastQueued = now;
+    return true;
+  }
+
+  /**
+   * Removes the oldest queued move.
+   *
+   * @post The move is no longer queued.
+   *
+   * @return The direction of the oldest move, or null if the queue is empty.
+   */
+  public Direction poll() {
+    if (this.count == 0) {
+      return null;
+    }
+
+    Direction direction = this.ring[this.head];
+    this.ring[this.head] = null;
+    this.head = (this.head + 1) % this.ring.length;
+    this.count--;
+    return direction;
+  }
+
+  /**
+   * Removes every queued move, for instance once the game is over.
+   *
+   * @post The queue is empty.
+   */
+  public void clear() {
+    while (this.poll() != null) {
+      // Every slot is emptied by poll.
+    }
+  }
+
+  /**
+   * Retrieves the number of queued moves.
+   *
+   * @return The number of moves waiting to be applied.
+   */
+  public int size() {
+    return this.count;
+  }
+
+  /**
+   * Checks whether no move is waiting to be applied.
+   *
+   * @return {@code true} if the queue is empty, {@code false} otherwise.
+   */
+  public boolean isEmpty() {
+    return this.count == 0;
+  }
+
+  /**
+   * Checks whether the queue holds as many moves as it can.
+   *
+   * @return {@code true} if the queue is full, {@code false} otherwise.
+   */
+  public boolean isFull() {
+    return this.count == this.ring.length;
+  }
+}
@@ -0,0 +1,90 @@
+package org.csc335.engine;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BiConsumer;
+
+import org.csc335.entity.Direction;
+
+/**
+ * Runs a game on a thread of its own. The thread is the only one that touches
+ * the {@link GameEngine}, so the rules need no locking, and every change it
+ * makes is published as an immutable {@link BoardSnapshot}, which any thread
+ * can also read from {@link GameEngine#getPublishedSnapshot()}. A UI hands the
+ * snapshots over to its own thread and never reads the engine itself, so
+ * nothing the engine does can hold up a frame.
+ */
+public class EngineThread implements AutoCloseable {
+  private final GameEngine engine;
+
+  private final ExecutorService worker;
+
+  // Receives every snapshot and the record of the move that led to it on the
+  // engine thread, in the order of the moves.
+  private final BiConsumer<BoardSnapshot, MoveResult> publisher;
+
+  /**
+   * Takes over a game and starts the thread that runs it.
+   *
+   * @pre No other thread changes the engine from now on.
+   * @param engine    the game to run
+   * @param publisher receives every snapshot, on the engine thread, along with
+   *                  the record of the move that led to it, which no one else
+   *                  refills, or null after a reset
+   */
+  public EngineThread(GameEngine engine, BiConsumer<BoardSnapshot, MoveResult> publisher) {
+    this.engine = engine;
+    this.publisher = publisher;
+    this.worker = Executors.newSingleThreadExecutor(runnable -> {
+      // The game must not keep the application alive once its window is closed.
+      Thread thread = new Thread(runnable, "engine");
+      thread.setDaemon(true);
+      return thread;
+    });
+  }
+
+  /**
+   * Queues a move. Moves are applied in the order they were queued, and each
+   * one that changes the board publishes a snapshot.
+   *
+   * @param direction the direction in which the tiles move
+   */
+  public void move(Direction direction) {
+    this.worker.execute(() -> {
+      // Every move gets a record of its own, since the previous one may still be
+      // read by another thread.
+      MoveResult result = new MoveResult();
+      if (this.engine.move(direction, result)) {
+        this.publish(result);
+      }
+    });
+  }
+
+  /**
+   * Queues a reset of the game, which publishes a snapshot without a record.
+   */
+  public void reset() {
+    this.worker.execute(() -> {
+      this.engine.reset();
+      this.publish(null);
+    });
+  }
+
+  /**
+   * Publishes a snapshot of the game through the engine, where other threads
+   * can read it right away, and hands it to the publisher.
+   *
+   * @param move the record of the move that led to the board, or null
+   */
+  private void publish(MoveResult move) {
+    this.publisher.accept(this.engine.publish(), move);
+  }
+
+  /**
+   * Stops the thread once the queued moves are applied.
+   */
+  @Override
+  public void close() {
+    this.worker.shutdown();
+  }
+}
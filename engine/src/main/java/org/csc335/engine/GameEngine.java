@@ -0,0 +1,549 @@
+package org.csc335.engine;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.random.RandomGenerator;
+
+import org.csc335.entity.Direction;
+import org.csc335.entity.TileValue;
+
+/**
+ * Holds the state of a single game of 2048 and applies its rules: the
+ * {@link Board}, the mask of blank cells, the score, the number of moves and the
+ * {@link SpawnSource} of new tiles. It has no dependency on JavaFX, so it
+ * can run in batch simulations on machines without a display.
+ */
+public class GameEngine {
+  private Board board;
+  private long emptyTiles;
+  private long score;
+  private long lastScore;
+  private int moves;
+  private SpawnSource spawns;
+
+  // The last snapshot published for other threads, and the sequence number of
+  // the next one.
+  private final AtomicReference<BoardSnapshot> published;
+  private long sequence;
+
+  public GameEngine() {
+    this(Bitboard.SIZE, new SplittableRandom());
+  }
+
+  /**
+   * Creates a game whose tiles are spawned from a generator seeded with the
+   * given seed. Two games created with the same seed and fed the same
+   * directions play out exactly the same way.
+   *
+   * @param seed the seed of the random generator
+   */
+  public GameEngine(long seed) {
+    this(Bitboard.SIZE, seed);
+  }
+
+  /**
+   * Creates a game on a board of the given size whose tiles are spawned from a
+   * generator seeded with the given seed.
+   *
+   * @pre Board.MIN_SIZE <= size <= Board.MAX_SIZE
+   * @param size the width and height of the board
+   * @param seed the seed of the random generator
+   */
+  public GameEngine(int size, long seed) {
+    this(size, new SplittableRandom(seed));
+  }
+
+  /**
+   * Creates a game whose tiles are spawned from the given random generator.
+   * Parallel simulations can hand each game its own split of a
+   * {@link SplittableRandom} so that no generator is shared between threads.
+   *
+   * @param random the source of randomness for spawned tiles
+   */
+  public GameEngine(RandomGenerator random) {
+    this(Bitboard.SIZE, random);
+  }
+
+  /**
+   * Creates a game on a board of the given size whose tiles are spawned from the
+   * given random generator.
+   *
+   * @pre Board.MIN_SIZE <= size <= Board.MAX_SIZE
+   * @param size   the width and height of the board
+   * @param random the source of randomness for spawned tiles
+   * @throws IllegalArgumentException if the size is not supported.
+   */
+  public GameEngine(int size, RandomGenerator random) {
+    this.board = Board.of(size);
+    this.spawns = SpawnSource.random(random);
+    this.reset();
+    this.published = new AtomicReference<>(this.snapshot(this.sequence++));
+  }
+
+  /**
+   * Resets the game to a board with two randomly spawned tiles.
+   *
+   * @post The score and the number of moves are 0, and the board holds exactly
+   *       two tiles.
+   */
+  public void reset() {
+    // Start over on the fastest board of this size, in case the last game
+    // outgrew it.
+    this.board = Board.of(this.board.size());
+    this.emptyTiles = this.board.emptyMask();
+    this.score = 0;
+    this.lastScore = 0;
+    this.moves = 0;
+
+    // Fill a random blank cell, which removes it from the candidates of the
+    // second one.
+    this.spawnRandomTile();
+    this.spawnRandomTile();
+  }
+
+  /**
+   * Moves the tiles in the given direction and, if anything moved, spawns a new
+   * tile.
+   *
+   * @post If the board changed, the score, the number of moves and the mask of
+   *       blank cells are updated and a new tile is spawned.
+   * @param direction the direction in which the tiles move
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  public boolean move(Direction direction) {
+    if (!this.shift(direction)) {
+      return false;
+    }
+
+    this.spawnRandomTile();
+    return true;
+  }
+
+  /**
+   * Moves the tiles in the given direction without spawning a new tile.
+   *
+   * @post If the board changed, the score, the number of moves and the mask of
+   *       blank cells are updated, and {@link #getLastScore()} holds the score
+   *       gained by the move.
+   * @param direction the direction in which the tiles move
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  public boolean shift(Direction direction) {
+    if (!this.board.shift(direction)) {
+      return false;
+    }
+
+    this.shifted();
+    return true;
+  }
+
+  /**
+   * Moves the tiles in the given direction without spawning a new tile, and
+   * records which tile went where.
+   *
+   * @post If the board changed, the score, the number of moves and the mask of
+   *       blank cells are updated. The result describes the move either way.
+   * @param direction the direction in which the tiles move
+   * @param result    the record to fill, whose previous contents are discarded
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  public boolean shift(Direction direction, MoveResult result) {
+    if (!this.board.shift(direction, result)) {
+      return false;
+    }
+
+    this.shifted();
+    return true;
+  }
+
+  /**
+   * Moves the tiles in the given direction and, if anything moved, spawns a new
+   * tile, recording everything that happened in the given result. The result
+   * can be reused from move to move, so a game allocates nothing per move.
+   *
+   * @post If the board changed, the score, the number of moves and the mask of
+   *       blank cells are updated and a new tile is spawned. The result
+   *       describes the move either way.
+   * @param direction the direction in which the tiles move
+   * @param result    the record to fill, whose previous contents are discarded
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  public boolean move(Direction direction, MoveResult result) {
+    if (!this.shift(direction, result)) {
+      return false;
+    }
+
+    this.spawnRandomTile(result);
+    return true;
+  }
+
+  /**
+   * Updates the state of the game after the board changed.
+   *
+   * @post The score, the number of moves and the mask of blank cells match the
+   *       board.
+   */
+  private void shifted() {
+    this.lastScore = this.board.lastScore();
+    this.score += this.lastScore;
+    this.moves++;
+    this.promoteIfSaturated();
+
+    // Take the blank cells from the board, which keeps them up to date as the
+    // move writes its cells: a few bit operations on the packed 4x4 board, and a
+    // mask of occupied cells on the byte board, rather than a scan.
+    this.emptyTiles = this.board.emptyMask();
+  }
+
+  /**
+   * Places a randomly generated tile into a random blank cell.
+   *
+   * @pre The board has at least one blank cell.
+   * @post The cell holds either a 2 or a 4, as picked by
+   *       {@link TileValue#random(RandomGenerator)}, and is no longer part of
+   *       the mask of blank cells.
+   *
+   * @return The index of the cell that received the tile, counted row by row
+   *         from the top-left.
+   */
+  public int spawnRandomTile() {
+    return this.spawnTile(this.spawns);
+  }
+
+  /**
+   * Places a randomly generated tile into a random blank cell, and records it
+   * as the tile spawned by the move described by the given result.
+   *
+   * @pre The board has at least one blank cell.
+   * @post The cell holds either a 2 or a 4 and is no longer part of the mask of
+   *       blank cells, and the result holds the cell and its exponent.
+   * @param result the record of the move that made room for the tile
+   *
+   * @return The index of the cell that received the tile, counted row by row
+   *         from the top-left.
+   */
+  public int spawnRandomTile(MoveResult result) {
+    int cell = this.spawnTile(this.spawns);
+    int size = this.board.size();
+
+    result.setSpawn(cell, this.board.getExponent(cell / size, cell % size));
+    return cell;
+  }
+
+  /**
+   * Places the tile picked by the given spawn source into the board.
+   *
+   * @pre The board has at least one blank cell.
+   * @post The picked cell holds the picked tile and is no longer part of the
+   *       mask of blank cells.
+   * @param spawns decides where the tile goes and what it is worth
+   *
+   * @return The index of the cell that received the tile, counted row by row
+   *         from the top-left.
+   */
+  public int spawnTile(SpawnSource spawns) {
+    int cell = spawns.nextCell(this.emptyTiles);
+    int exponent = spawns.nextExponent();
+    int size = this.board.size();
+
+    this.board.setExponent(cell / size, cell % size, exponent);
+    this.emptyTiles &= ~(1L << cell);
+    return cell;
+  }
+
+  /**
+   * Applies a whole sequence of moves, spawning the tiles of this game's random
+   * generator. See {@link #applyMoves(Direction[], SpawnSource)}.
+   *
+   * @param directions the moves to apply, in order
+   *
+   * @return The outcome of the whole sequence.
+   */
+  public BatchResult applyMoves(Direction[] directions) {
+    return this.applyMoves(directions, this.spawns);
+  }
+
+  /**
+   * Applies a whole sequence of moves in one tight loop, for instance to replay
+   * or validate a recorded game. Every move that changes the board is followed
+   * by a tile from the spawn source, just like {@link #move(Direction)}; moves
+   * that change nothing, and {@code null} entries, are skipped. The sequence
+   * stops early once the game is over.
+   *
+   * @post The game is in the state reached after the applied moves.
+   * @param directions the moves to apply, in order
+   * @param spawns     decides where the tile after each move goes and what it
+   *                   is worth
+   *
+   * @return The outcome of the whole sequence.
+   */
+  public BatchResult applyMoves(Direction[] directions, SpawnSource spawns) {
+    long scoreBefore = this.score;
+    int movesBefore = this.moves;
+    int gameOverIndex = BatchResult.NOT_OVER;
+
+    for (int i = 0; i < directions.length; i++) {
+      if (this.isGameOver()) {
+        gameOverIndex = i;
+        break;
+      }
+
+      Direction direction = directions[i];
+      if (direction != null && this.shift(direction)) {
+        this.spawnTile(spawns);
+      }
+    }
+
+    return this.batchResult(scoreBefore, movesBefore, gameOverIndex, directions.length);
+  }
+
+  /**
+   * Applies a whole sequence of moves encoded as {@link Direction#code()}
+   * bytes, spawning the tiles of this game's random generator. See
+   * {@link #applyMoves(byte[], SpawnSource)}.
+   *
+   * @param codes the moves to apply, in order
+   *
+   * @return The outcome of the whole sequence.
+   * @throws IllegalArgumentException if a byte is not the code of a direction.
+   */
+  public BatchResult applyMoves(byte[] codes) {
+    return this.applyMoves(codes, this.spawns);
+  }
+
+  /**
+   * Applies a whole sequence of moves encoded as {@link Direction#code()}
+   * bytes, which is how compact replays store them. It behaves like
+   * {@link #applyMoves(Direction[], SpawnSource)}.
+   *
+   * @post The game is in the state reached after the applied moves.
+   * @param codes  the moves to apply, in order
+   * @param spawns decides where the tile after each move goes and what it is
+   *               worth
+   *
+   * @return The outcome of the whole sequence.
+   * @throws IllegalArgumentException if a byte is not the code of a direction.
+   */
+  public BatchResult applyMoves(byte[] codes, SpawnSource spawns) {
+    long scoreBefore = this.score;
+    int movesBefore = this.moves;
+    int gameOverIndex = BatchResult.NOT_OVER;
+
+    for (int i = 0; i < codes.length; i++) {
+      if (this.isGameOver()) {
+        gameOverIndex = i;
+        break;
+      }
+
+      Direction direction = Direction.fromCode(codes[i]);
+      if (direction == null) {
+        throw new IllegalArgumentException("Invalid move code " + codes[i] + " at index " + i);
+      }
+
+      if (this.shift(direction)) {
+        this.spawnTile(spawns);
+      }
+    }
+
+    return this.batchResult(scoreBefore, movesBefore, gameOverIndex, codes.length);
+  }
+
+  /**
+   * Sums up a sequence of moves that has just been applied.
+   *
+   * @param scoreBefore   the score before the first move
+   * @param movesBefore   the number of moves before the first move
+   * @param gameOverIndex the index at which the loop found the game over, or
+   *                      {@link BatchResult#NOT_OVER}
+   * @param length        the length of the sequence
+   *
+   * @return The outcome of the whole sequence.
+   */
+  private BatchResult batchResult(long scoreBefore, int movesBefore, int gameOverIndex, int length) {
+    // The last move may have ended the game without the loop getting to see it.
+    if (gameOverIndex == BatchResult.NOT_OVER && this.isGameOver()) {
+      gameOverIndex = length;
+    }
+
+    return new BatchResult(this.board.copy(), this.score - scoreBefore, this.moves - movesBefore, gameOverIndex);
+  }
+
+  /**
+   * Takes an immutable snapshot of the game, which can be handed to another
+   * thread.
+   *
+   * @param sequence the number of snapshots taken of the game before this one
+   *
+   * @return A snapshot holding a copy of the board.
+   */
+  public BoardSnapshot snapshot(long sequence) {
+    return new BoardSnapshot(this.board.copy(), this.score, this.moves, this.getLegalMoves(), sequence);
+  }
+
+  /**
+   * Publishes a snapshot of the game, which any thread can read from then on
+   * with {@link #getPublishedSnapshot()}. Only the thread that changes the game
+   * may publish it.
+   *
+   * @post The published snapshot shows the current state of the game, and its
+   *       sequence number is one more than the one of the previous snapshot.
+   *
+   * @return The published snapshot.
+   */
+  public BoardSnapshot publish() {
+    BoardSnapshot snapshot = this.snapshot(this.sequence++);
+    this.published.set(snapshot);
+    return snapshot;
+  }
+
+  /**
+   * Retrieves the last published snapshot of the game. Any thread can call this
+   * while another one plays: the read is a single volatile load that never
+   * waits on the player, and the snapshot never changes once published. A new
+   * game publishes its first snapshot, numbered 0, when it is created.
+   *
+   * @return The last published snapshot.
+   */
+  public BoardSnapshot getPublishedSnapshot() {
+    return this.published.get();
+  }
+
+  /**
+   * Computes the directions in which the board can currently be moved.
+   *
+   * @return A mask of {@link Direction#mask()} bits, with a bit set for every
+   *         direction that would change the board.
+   */
+  public int getLegalMoves() {
+    return this.board.legalMoves();
+  }
+
+  /**
+   * Checks whether the game is over, which is the case once no direction can
+   * change the board.
+   *
+   * @return {@code true} if no legal moves are left, {@code false} otherwise.
+   */
+  public boolean isGameOver() {
+    return this.getLegalMoves() == 0;
+  }
+
+  /**
+   * Retrieves the width and height of the board.
+   *
+   * @return The number of cells in every row and every column.
+   */
+  public int getSize() {
+    return this.board.size();
+  }
+
+  /**
+   * Retrieves the board. It must only be changed through this engine, so that
+   * the mask of blank cells stays in sync with it.
+   *
+   * @return The board of the game.
+   */
+  public Board getBoard() {
+    return this.board;
+  }
+
+  /**
+   * Blanks every cell of the board, for instance to set up a position for a
+   * solver with {@link #setExponent(int, int, int)}.
+   *
+   * @post Every cell of the board is blank.
+   */
+  public void clear() {
+    this.board.clear();
+    this.emptyTiles = this.board.emptyMask();
+  }
+
+  /**
+   * Retrieves the exponent of the tile at the specified position.
+   *
+   * @param row the row index of the cell (0-based index)
+   * @param col the column index of the cell (0-based index)
+   *
+   * @return The exponent of the tile, or 0 if the cell is blank.
+   */
+  public int getExponent(int row, int col) {
+    return this.board.getExponent(row, col);
+  }
+
+  /**
+   * Replaces the exponent of the tile at the specified position, for instance
+   * to resume a saved game.
+   *
+   * @pre 0 <= exponent <= TileValue.MAX_EXPONENT
+   * @post The mask of blank cells matches the new board.
+   * @param row      the row index of the cell (0-based index)
+   * @param col      the column index of the cell (0-based index)
+   * @param exponent the new exponent, or 0 to blank the cell
+   */
+  public void setExponent(int row, int col, int exponent) {
+    long bit = 1L << (row * this.board.size() + col);
+
+    if (exponent > this.board.maxExponent()) {
+      this.board = new ByteBoard(this.board);
+    }
+
+    this.board.setExponent(row, col, exponent);
+    this.emptyTiles = exponent == 0 ? this.emptyTiles | bit : this.emptyTiles & ~bit;
+    this.promoteIfSaturated();
+  }
+
+  /**
+   * Moves a packed 4x4 board over to a byte per cell once one of its tiles
+   * reaches 32768, the largest value a nibble holds, so that two such tiles
+   * can still merge. Boards that never get there keep the table lookups of the
+   * packed board.
+   *
+   * @post The board can hold the result of merging any two of its tiles.
+   */
+  private void promoteIfSaturated() {
+    if (this.board instanceof NibbleBoard nibbles && nibbles.isSaturated()) {
+      this.board = new ByteBoard(nibbles);
+    }
+  }
+
+  /**
+   * Retrieves the mask of blank cells, where bit {@code size * row + col} is
+   * set if the cell (row, col) is blank.
+   *
+   * @return The mask of blank cells.
+   */
+  public long getEmptyTiles() {
+    return this.emptyTiles;
+  }
+
+  /**
+   * Retrieves the total score of the game.
+   *
+   * @return The sum of the values of every tile created by a merge.
+   */
+  public long getScore() {
+    return this.score;
+  }
+
+  /**
+   * Retrieves the score gained by the last move that changed the board.
+   *
+   * @return The score gained by the last move.
+   */
+  public long getLastScore() {
+    return this.lastScore;
+  }
+
+  /**
+   * Retrieves the number of moves that changed the board.
+   *
+   * @return The number of moves made.
+   */
+  public int getMoves() {
+    return this.moves;
+  }
+}
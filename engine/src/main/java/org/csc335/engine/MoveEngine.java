@@ -0,0 +1,358 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * Applies moves to a packed {@link Bitboard} using precomputed lookup tables.
+ * Since a row only has 16 bits, the outcome of moving every possible row left
+ * or right is computed once when the class is loaded. Moving the board is then
+ * a table lookup per row, and moves up or down transpose the board so that its
+ * columns can be looked up as rows.
+ */
+public final class MoveEngine {
+  // The number of distinct packed rows.
+  private static final int ROWS = 1 << (Bitboard.SIZE * Bitboard.CELL_BITS);
+
+  // Flag set when moving a row to the left changes it.
+  public static final int CHANGED_LEFT = 1;
+
+  // Flag set when moving a row to the right changes it.
+  public static final int CHANGED_RIGHT = 2;
+
+  // The mask bit of each direction, as reported by legalMoves.
+  private static final int LEFT_MASK = Direction.LEFT.mask();
+  private static final int RIGHT_MASK = Direction.RIGHT.mask();
+  private static final int UP_MASK = Direction.UP.mask();
+  private static final int DOWN_MASK = Direction.DOWN.mask();
+
+  // The row that results from moving each row to the left.
+  private static final char[] LEFT = new char[ROWS];
+
+  // The row that results from moving each row to the right.
+  private static final char[] RIGHT = new char[ROWS];
+
+  // The score gained by moving each row. Equal tiles pair up the same way from
+  // either end of a row, so the score does not depend on the direction.
+  private static final int[] SCORE = new int[ROWS];
+
+  // The CHANGED_LEFT and CHANGED_RIGHT flags of each row.
+  private static final byte[] FLAGS = new byte[ROWS];
+
+  // Where each tile of a row ends up when the row moves to the left: 2 bits per
+  // column holding its destination column, followed by a 4-bit mask of the
+  // destination columns that hold a merged tile.
+  private static final char[] DESTINATIONS = new char[ROWS];
+
+  // The offset of the merge mask within an entry of DESTINATIONS.
+  private static final int MERGE_SHIFT = 2 * Bitboard.SIZE;
+
+  static {
+    for (int row = 0; row < ROWS; row++) {
+      int left = collapseRow(row);
+      LEFT[row] = (char) left;
+      SCORE[row] = scoreRow(row);
+      DESTINATIONS[row] = (char) destinationsRow(row);
+
+      if (left != row) {
+        FLAGS[row] |= CHANGED_LEFT;
+      }
+    }
+
+    // Moving a row to the right is the same as moving its mirror image to the
+    // left, so the right table is derived from the left one.
+    for (int row = 0; row < ROWS; row++) {
+      int right = Bitboard.reverseRow(LEFT[Bitboard.reverseRow(row)]);
+      RIGHT[row] = (char) right;
+
+      if (right != row) {
+        FLAGS[row] |= CHANGED_RIGHT;
+      }
+    }
+  }
+
+  /**
+   * A private constructor; this is a utility class that doesn't need instances.
+   */
+  private MoveEngine() {
+  }
+
+  /**
+   * Moves every tile of the board in the given direction, merging equal tiles
+   * that collide. Tiles holding the largest exponent a cell can store
+   * ({@link Bitboard#CELL_MASK}) never merge.
+   *
+   * @param board     the packed board
+   * @param direction the direction in which the tiles move
+   *
+   * @return The packed board after the move. It is equal to {@code board} if no
+   *         tile could move.
+   */
+  public static long move(long board, Direction direction) {
+    switch (direction) {
+      case UP:
+        return Bitboard.transpose(lookup(Bitboard.transpose(board), LEFT));
+      case DOWN:
+        return Bitboard.transpose(lookup(Bitboard.transpose(board), RIGHT));
+      case LEFT:
+        return lookup(board, LEFT);
+      case RIGHT:
+        return lookup(board, RIGHT);
+      default:
+        return board;
+    }
+  }
+
+  /**
+   * Computes the score gained by moving the board in the given direction, which
+   * is the sum of the values of every tile created by a merge.
+   *
+   * @param board     the packed board
+   * @param direction the direction in which the tiles move
+   *
+   * @return The score gained by the move.
+   */
+  public static int score(long board, Direction direction) {
+    if (direction == Direction.UP || direction == Direction.DOWN) {
+      board = Bitboard.transpose(board);
+    }
+
+    return SCORE[(int) board & Bitboard.ROW_MASK]
+        + SCORE[(int) (board >>> 16) & Bitboard.ROW_MASK]
+        + SCORE[(int) (board >>> 32) & Bitboard.ROW_MASK]
+        + SCORE[(int) (board >>> 48) & Bitboard.ROW_MASK];
+  }
+
+  /**
+   * Computes which directions the board can be moved in, without moving it.
+   * Every row of the board and of its transpose is checked against the CHANGED
+   * flags of the tables, so the query takes eight lookups and allocates nothing.
+   *
+   * @param board the packed board
+   *
+   * @return A mask of {@link Direction#mask()} bits, with a bit set for every
+   *         direction that would change the board. A mask of 0 means the game
+   *         is over.
+   */
+  public static int legalMoves(long board) {
+    int rows = FLAGS[(int) board & Bitboard.ROW_MASK]
+        | FLAGS[(int) (board >>> 16) & Bitboard.ROW_MASK]
+        | FLAGS[(int) (board >>> 32) & Bitboard.ROW_MASK]
+        | FLAGS[(int) (board >>> 48) & Bitboard.ROW_MASK];
+
+    long transposed = Bitboard.transpose(board);
+    int cols = FLAGS[(int) transposed & Bitboard.ROW_MASK]
+        | FLAGS[(int) (transposed >>> 16) & Bitboard.ROW_MASK]
+        | FLAGS[(int) (transposed >>> 32) & Bitboard.ROW_MASK]
+        | FLAGS[(int) (transposed >>> 48) & Bitboard.ROW_MASK];
+
+    int mask = 0;
+    if ((rows & CHANGED_LEFT) != 0) {
+      mask |= LEFT_MASK;
+    }
+    if ((rows & CHANGED_RIGHT) != 0) {
+      mask |= RIGHT_MASK;
+    }
+    if ((cols & CHANGED_LEFT) != 0) {
+      mask |= UP_MASK;
+    }
+    if ((cols & CHANGED_RIGHT) != 0) {
+      mask |= DOWN_MASK;
+    }
+    return mask;
+  }
+
+  /**
+   * Records which tile went where when the board was moved in the given
+   * direction, by looking up where the tiles of every row or column end up.
+   * Only tiles that change cells are recorded as slides.
+   *
+   * @pre {@code result} was reset for this move.
+   * @post {@code result} holds the slides and merges of the move.
+   * @param board     the packed board before the move
+   * @param direction the direction in which the tiles move
+   * @param result    the record to fill
+   */
+  static void describe(long board, Direction direction, MoveResult result) {
+    boolean vertical = direction == Direction.UP || direction == Direction.DOWN;
+    boolean reversed = direction == Direction.RIGHT || direction == Direction.DOWN;
+    int last = Bitboard.SIZE - 1;
+
+    // Columns are read as the rows of the transposed board.
+    long lines = vertical ? Bitboard.transpose(board) : board;
+
+    for (int line = 0; line < Bitboard.SIZE; line++) {
+      int row = Bitboard.row(lines, line);
+      if (row == 0) {
+        continue;
+      }
+
+      // Moving towards the far end is moving the mirrored line to the left.
+      int entry = DESTINATIONS[reversed ? Bitboard.reverseRow(row) : row];
+
+      for (int k = 0; k < Bitboard.SIZE; k++) {
+        // Column k of the looked up line is this position of the actual line.
+        int position = reversed ? last - k : k;
+        if (((row >>> (position * Bitboard.CELL_BITS)) & Bitboard.CELL_MASK) == 0) {
+          continue;
+        }
+
+        int landing = (entry >>> (2 * k)) & 0x3;
+        int destination = reversed ? last - landing : landing;
+        int source = vertical ? position * Bitboard.SIZE + line : line * Bitboard.SIZE + position;
+        int target = vertical ? destination * Bitboard.SIZE + line : line * Bitboard.SIZE + destination;
+
+        if ((entry & (1 << (MERGE_SHIFT + landing))) != 0) {
+          result.addMerge(target);
+        }
+        if (source != target) {
+          result.addSlide(source, target);
+        }
+      }
+    }
+  }
+
+  /**
+   * Retrieves the CHANGED_LEFT and CHANGED_RIGHT flags of a packed row.
+   *
+   * @param row the packed row, with column 0 in its lowest nibble
+   *
+   * @return The flags of the row.
+   */
+  public static int flags(int row) {
+    return FLAGS[row];
+  }
+
+  /**
+   * Replaces every row of the board with its entry in the given table.
+   *
+   * @param board the packed board
+   * @param table the table of moved rows
+   *
+   * @return The packed board made of the moved rows.
+   */
+  private static long lookup(long board, char[] table) {
+    return (long) table[(int) board & Bitboard.ROW_MASK]
+        | (long) table[(int) (board >>> 16) & Bitboard.ROW_MASK] << 16
+        | (long) table[(int) (board >>> 32) & Bitboard.ROW_MASK] << 32
+        | (long) table[(int) (board >>> 48) & Bitboard.ROW_MASK] << 48;
+  }
+
+  /**
+   * Collapses a single packed row towards column 0. It walks over the tiles of
+   * the row in order and keeps the last tile that has not been merged yet:
+   * <ul>
+   * <li><strong>Tile meets the same-value tile:</strong> The tiles combine into
+   * a higher-value tile, which cannot merge again during this move.</li>
+   * <li><strong>Tile meets a different-value tile:</strong> The waiting tile is
+   * placed and the new tile waits for a partner instead.</li>
+   * </ul>
+   * Blank cells are skipped, so every tile ends up next to its neighbour.
+   *
+   * @param row the packed row, with column 0 in its lowest nibble
+   *
+   * @return The packed row after collapsing it.
+   */
+  private static int collapseRow(int row) {
+    int result = 0;
+    int target = 0;
+    int pending = 0;
+
+    for (int col = 0; col < Bitboard.SIZE; col++) {
+      int exponent = (row >>> (col * Bitboard.CELL_BITS)) & Bitboard.CELL_MASK;
+
+      // Blank cells don't take part in the collapse.
+      if (exponent == 0) {
+        continue;
+      }
+
+      if (exponent == pending && exponent < Bitboard.CELL_MASK) {
+        // Merge the tile into the one that was waiting for a partner.
+        result |= (exponent + 1) << (target++ * Bitboard.CELL_BITS);
+        pending = 0;
+      } else {
+        // Place the waiting tile, since it can no longer merge with anything.
+        if (pending != 0) {
+          result |= pending << (target++ * Bitboard.CELL_BITS);
+        }
+        pending = exponent;
+      }
+    }
+
+    if (pending != 0) {
+      result |= pending << (target * Bitboard.CELL_BITS);
+    }
+
+    return result;
+  }
+
+  /**
+   * Computes where every tile of a single packed row ends up when the row
+   * collapses towards column 0, following the same pairing rules as
+   * {@link #collapseRow(int)}.
+   *
+   * @param row the packed row, with column 0 in its lowest nibble
+   *
+   * @return The destination column of every column, 2 bits each, followed by
+   *         the mask of destination columns that hold a merged tile.
+   */
+  private static int destinationsRow(int row) {
+    int entry = 0;
+    int target = 0;
+    int pending = 0;
+
+    for (int col = 0; col < Bitboard.SIZE; col++) {
+      int exponent = (row >>> (col * Bitboard.CELL_BITS)) & Bitboard.CELL_MASK;
+
+      if (exponent == 0) {
+        continue;
+      }
+
+      if (exponent == pending && exponent < Bitboard.CELL_MASK) {
+        // The tile joins the waiting one, whose column is already taken.
+        entry |= target << (2 * col);
+        entry |= 1 << (MERGE_SHIFT + target);
+        target++;
+        pending = 0;
+      } else {
+        // The waiting tile keeps its column, and this tile takes the next one.
+        if (pending != 0) {
+          target++;
+        }
+        entry |= target << (2 * col);
+        pending = exponent;
+      }
+    }
+
+    return entry;
+  }
+
+  /**
+   * Computes the score gained by collapsing a single packed row, following the
+   * same pairing rules as {@link #collapseRow(int)}.
+   *
+   * @param row the packed row, with column 0 in its lowest nibble
+   *
+   * @return The sum of the values of every tile created by a merge.
+   */
+  private static int scoreRow(int row) {
+    int score = 0;
+    int pending = 0;
+
+    for (int col = 0; col < Bitboard.SIZE; col++) {
+      int exponent = (row >>> (col * Bitboard.CELL_BITS)) & Bitboard.CELL_MASK;
+
+      if (exponent == 0) {
+        continue;
+      }
+
+      if (exponent == pending && exponent < Bitboard.CELL_MASK) {
+        score += 1 << (exponent + 1);
+        pending = 0;
+      } else {
+        pending = exponent;
+      }
+    }
+
+    return score;
+  }
+}
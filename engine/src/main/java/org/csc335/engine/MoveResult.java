@@ -0,0 +1,219 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * Describes what a single move did to a board: which tiles slid from which cell
+ * to which, where tiles merged, where the new tile was spawned and how much
+ * score was gained. Cells are numbered row by row from the top-left, as in
+ * {@link Board}.
+ *
+ * <p>
+ * A MoveResult is meant to be allocated once and refilled by every move, so
+ * its arrays are sized for the largest board and a move allocates nothing.
+ * Animation, sound and statistics can all read the same record instead of
+ * watching every cell for changes.
+ * </p>
+ */
+public class MoveResult {
+  // The cell of a tile that was not spawned.
+  public static final int NO_CELL = -1;
+
+  // The source and destination cell of every tile that moved, pair by pair.
+  private final int[] sources;
+  private final int[] destinations;
+  private int slides;
+
+  private Direction direction;
+  private long merges;
+  private int spawnedCell;
+  private int spawnedExponent;
+  private long score;
+
+  public MoveResult() {
+    this.sources = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.destinations = new int[Board.MAX_SIZE * Board.MAX_SIZE];
+    this.reset(null);
+  }
+
+  /**
+   * Empties the record before it describes a new move.
+   *
+   * @post The record describes a move in the given direction that changed
+   *       nothing.
+   * @param direction the direction of the new move, or null if there is none
+   */
+  public void reset(Direction direction) {
+    this.direction = direction;
+    this.slides = 0;
+    this.merges = 0L;
+    this.spawnedCell = NO_CELL;
+    this.spawnedExponent = 0;
+    this.score = 0L;
+  }
+
+  /**
+   * Records a tile that moved from one cell to another.
+   *
+   * @param source      the cell the tile left
+   * @param destination the cell the tile ended up in
+   */
+  void addSlide(int source, int destination) {
+    this.sources[this.slides] = source;
+    this.destinations[this.slides] = destination;
+    this.slides++;
+  }
+
+  /**
+   * Records that two tiles merged in the given cell.
+   *
+   * @param destination the cell holding the merged tile
+   */
+  void addMerge(int destination) {
+    this.merges |= 1L << destination;
+  }
+
+  /**
+   * Records the score gained by the move.
+   *
+   * @param score the sum of the values of every tile created by a merge
+   */
+  void setScore(long score) {
+    this.score = score;
+  }
+
+  /**
+   * Records the tile that was spawned after the move.
+   *
+   * @param cell     the cell that received the tile
+   * @param exponent the exponent of the tile
+   */
+  void setSpawn(int cell, int exponent) {
+    this.spawnedCell = cell;
+    this.spawnedExponent = exponent;
+  }
+
+  /**
+   * Retrieves the direction of the move.
+   *
+   * @return The direction of the move, or null if no move was recorded yet.
+   */
+  public Direction getDirection() {
+    return this.direction;
+  }
+
+  /**
+   * Checks whether the move changed the board. Every change moves at least one
+   * tile, so this is the case once a slide was recorded.
+   *
+   * @return {@code true} if the board changed, {@code false} otherwise.
+   */
+  public boolean isChanged() {
+    return this.slides > 0;
+  }
+
+  /**
+   * Retrieves the number of tiles that moved to another cell. Tiles that stayed
+   * in place, including ones that another tile merged into, are not counted.
+   *
+   * @return The number of source and destination pairs.
+   */
+  public int getSlideCount() {
+    return this.slides;
+  }
+
+  /**
+   * Retrieves the cell that the i-th moving tile left.
+   *
+   * @pre 0 <= i < getSlideCount()
+   * @param i the index of the pair
+   *
+   * @return The source cell of the pair.
+   */
+  public int getSource(int i) {
+    return this.sources[i];
+  }
+
+  /**
+   * Retrieves the cell that the i-th moving tile ended up in.
+   *
+   * @pre 0 <= i < getSlideCount()
+   * @param i the index of the pair
+   *
+   * @return The destination cell of the pair.
+   */
+  public int getDestination(int i) {
+    return this.destinations[i];
+  }
+
+  /**
+   * Retrieves the cells where two tiles merged, as a mask with bit
+   * {@code size * row + col} set for the cell (row, col).
+   *
+   * @return The mask of cells holding a merged tile.
+   */
+  public long getMerges() {
+    return this.merges;
+  }
+
+  /**
+   * Checks whether two tiles merged in the given cell.
+   *
+   * @param cell the index of the cell
+   *
+   * @return {@code true} if the cell holds a merged tile, {@code false}
+   *         otherwise.
+   */
+  public boolean isMerged(int cell) {
+    return (this.merges & (1L << cell)) != 0;
+  }
+
+  /**
+   * Computes the cells whose tile changed during the move: the cells that tiles
+   * left or slid into, the cells where tiles merged, and the spawned cell. Every
+   * other cell holds the same tile as before the move, so a view of the board
+   * only needs to redraw these. A cell can be listed even though it ends up
+   * with a tile equal to the one it lost, as in the second cell of
+   * {@code _ 4 4 4} moved left.
+   *
+   * @return A mask with bit {@code size * row + col} set for every cell (row,
+   *         col) that changed.
+   */
+  public long changedCells() {
+    long cells = this.merges;
+    for (int i = 0; i < this.slides; i++) {
+      cells |= (1L << this.sources[i]) | (1L << this.destinations[i]);
+    }
+    if (this.spawnedCell != NO_CELL) {
+      cells |= 1L << this.spawnedCell;
+    }
+    return cells;
+  }
+
+  /**
+   * Retrieves the cell that received the tile spawned after the move.
+   *
+   * @return The spawned cell, or {@link #NO_CELL} if no tile was spawned.
+   */
+  public int getSpawnedCell() {
+    return this.spawnedCell;
+  }
+
+  /**
+   * Retrieves the exponent of the tile spawned after the move.
+   *
+   * @return The exponent of the spawned tile, or 0 if no tile was spawned.
+   */
+  public int getSpawnedExponent() {
+    return this.spawnedExponent;
+  }
+
+  /**
+   * Retrieves the score gained by the move.
+   *
+   * @return The sum of the values of every tile created by a merge.
+   */
+  public long getScore() {
+    return this.score;
+  }
+}
@@ -0,0 +1,143 @@
+package org.csc335.engine;
+
+import org.csc335.entity.Direction;
+
+/**
+ * The standard 4x4 {@link Board}, packed into a single {@code long} as laid out
+ * by {@link Bitboard}. Moves are table lookups in the {@link MoveEngine}, so
+ * this is the fast path for the classic game. A cell holds exponents up to 15
+ * (a 32768), and two such tiles never merge; see {@link #isSaturated()}.
+ */
+public class NibbleBoard implements Board {
+  private long bits;
+  private long lastScore;
+
+  public NibbleBoard() {
+    this(Bitboard.EMPTY);
+  }
+
+  /**
+   * Creates a board from its packed representation.
+   *
+   * @param bits the board as a packed {@link Bitboard}
+   */
+  public NibbleBoard(long bits) {
+    this.bits = bits;
+  }
+
+  /**
+   * Retrieves the packed representation of the board.
+   *
+   * @return The board as a packed {@link Bitboard}.
+   */
+  public long getBits() {
+    return this.bits;
+  }
+
+  /**
+   * Replaces the packed representation of the board.
+   *
+   * @param bits the new board as a packed {@link Bitboard}
+   */
+  public void setBits(long bits) {
+    this.bits = bits;
+  }
+
+  /**
+   * Checks whether any cell holds the largest exponent a nibble can hold, past
+   * which the board can no longer follow the rules of the game.
+   *
+   * @return {@code true} if a cell holds a 32768, {@code false} otherwise.
+   */
+  public boolean isSaturated() {
+    // A cell is saturated if all four of its bits are set.
+    long full = this.bits & (this.bits >>> 1) & (this.bits >>> 2) & (this.bits >>> 3);
+    return (full & 0x1111111111111111L) != 0;
+  }
+
+  @Override
+  public int size() {
+    return Bitboard.SIZE;
+  }
+
+  @Override
+  public int getExponent(int row, int col) {
+    return Bitboard.exponent(this.bits, row, col);
+  }
+
+  @Override
+  public void setExponent(int row, int col, int exponent) {
+    this.bits = Bitboard.withExponent(this.bits, row, col, exponent);
+  }
+
+  @Override
+  public int maxExponent() {
+    return Bitboard.CELL_MASK;
+  }
+
+  @Override
+  public Board copy() {
+    return new NibbleBoard(this.bits);
+  }
+
+  @Override
+  public void clear() {
+    this.bits = Bitboard.EMPTY;
+  }
+
+  @Override
+  public boolean shift(Direction direction) {
+    long before = this.bits;
+    this.bits = MoveEngine.move(before, direction);
+
+    if (this.bits == before) {
+      return false;
+    }
+
+    this.lastScore = MoveEngine.score(before, direction);
+    return true;
+  }
+
+  @Override
+  public boolean shift(Direction direction, MoveResult result) {
+    long before = this.bits;
+
+    result.reset(direction);
+    if (!this.shift(direction)) {
+      return false;
+    }
+
+    MoveEngine.describe(before, direction, result);
+    result.setScore(this.lastScore);
+    return true;
+  }
+
+  @Override
+  public long lastScore() {
+    return this.lastScore;
+  }
+
+  @Override
+  public int legalMoves() {
+    return MoveEngine.legalMoves(this.bits);
+  }
+
+  @Override
+  public long emptyMask() {
+    return Bitboard.emptyMask(this.bits);
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == null || other.getClass() != this.getClass()) {
+      return false;
+    }
+
+    return this.bits == ((NibbleBoard) other).bits;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(this.bits);
+  }
+}
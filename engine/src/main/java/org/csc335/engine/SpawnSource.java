@@ -0,0 +1,55 @@
+package org.csc335.engine;
+
+import java.util.random.RandomGenerator;
+
+import org.csc335.entity.TileValue;
+
+/**
+ * Decides where the tile that appears after every move is spawned and what it
+ * is worth. Games normally draw both from a random generator, but a replay can
+ * feed back the spawns it recorded, and a solver can enumerate them.
+ */
+public interface SpawnSource {
+  /**
+   * Picks the blank cell that receives the next tile.
+   *
+   * @pre emptyTiles != 0
+   * @param emptyTiles the mask of blank cells, where bit {@code size * row + col}
+   *                   is set if the cell (row, col) is blank
+   *
+   * @return The index of one of the blank cells, counted row by row from the
+   *         top-left.
+   */
+  int nextCell(long emptyTiles);
+
+  /**
+   * Picks the exponent of the next tile, which is called right after
+   * {@link #nextCell(long)}.
+   *
+   * @return The exponent of the tile, usually 1 (a 2) or 2 (a 4).
+   */
+  int nextExponent();
+
+  /**
+   * Creates a spawn source that picks a uniformly random blank cell and a tile
+   * value as picked by {@link TileValue#random(RandomGenerator)}.
+   *
+   * @param random the source of randomness, which lets a seeded generator
+   *               reproduce the same sequence of tiles
+   *
+   * @return A spawn source drawing from the given generator.
+   */
+  static SpawnSource random(RandomGenerator random) {
+    return new SpawnSource() {
+      @Override
+      public int nextCell(long emptyTiles) {
+        return Bitboard.selectBit(emptyTiles, random.nextInt(Long.bitCount(emptyTiles)));
+      }
+
+      @Override
+      public int nextExponent() {
+        return TileValue.random(random).exponent();
+      }
+    };
+  }
+}
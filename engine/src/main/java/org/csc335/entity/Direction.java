@@ -8,6 +8,44 @@ public enum Direction {
   // Constants that represent direction
   RIGHT, LEFT, UP, DOWN;
 
+  // Cached copy of values() so that decoding a move doesn't clone the array.
+  private static final Direction[] VALUES = values();
+
+  /**
+   * Returns the bit that represents this direction in a mask of directions,
+   * such as the mask of legal moves computed by the move engine.
+   *
+   * @returns A mask with only the bit of this direction set.
+   */
+  public int mask() {
+    return 1 << this.ordinal();
+  }
+
+  /**
+   * Returns the byte that encodes this direction in a compact sequence of
+   * moves, such as a recorded replay.
+   *
+   * @returns The code of this direction.
+   */
+  public byte code() {
+    return (byte) this.ordinal();
+  }
+
+  /**
+   * Converts a byte produced by {@link #code()} back into its direction.
+   *
+   * @param code the code of a direction
+   *
+   * @returns The Direction encoded by the byte, or null if the byte is not the
+   *          code of a direction.
+   */
+  public static Direction fromCode(byte code) {
+    if (code < 0 || code >= VALUES.length) {
+      return null;
+    }
+    return VALUES[code];
+  }
+
   /**
    * Converts a string that represents the key that has been pressed to the
    * corresponding Direction enum value.
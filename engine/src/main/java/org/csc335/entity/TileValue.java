@@ -0,0 +1,260 @@
+package org.csc335.entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Enum representing possible values for tiles in 2048. The values run from 2 up
+ * to 2^31, which is as far as a long game played by a solver can get; the
+ * exponent of every value fits the byte a {@code ByteBoard} stores per cell.
+ */
+public enum TileValue {
+  /** Represents a tile with a value of 2. */
+  T2,
+
+  /** Represents a tile with a value of 4. */
+  T4,
+
+  /** Represents a tile with a value of 8. */
+  T8,
+
+  /** Represents a tile with a value of 16. */
+  T16,
+
+  /** Represents a tile with a value of 32. */
+  T32,
+
+  /** Represents a tile with a value of 64. */
+  T64,
+
+  /** Represents a tile with a value of 128. */
+  T128,
+
+  /** Represents a tile with a value of 256. */
+  T256,
+
+  /** Represents a tile with a value of 512. */
+  T512,
+
+  /** Represents a tile with a value of 1024. */
+  T1024,
+
+  /** Represents a tile with a value of 2048. */
+  T2048,
+
+  /** Represents a tile with a value of 4096. */
+  T4096,
+
+  /** Represents a tile with a value of 8192. */
+  T8192,
+
+  /** Represents a tile with a value of 16384. */
+  T16384,
+
+  /** Represents a tile with a value of 32768. */
+  T32768,
+
+  /** Represents a tile with a value of 65536. */
+  T65536,
+
+  /** Represents a tile with a value of 131072. */
+  T131072,
+
+  /** Represents a tile with a value of 262144. */
+  T262144,
+
+  /** Represents a tile with a value of 524288. */
+  T524288,
+
+  /** Represents a tile with a value of 1048576. */
+  T1048576,
+
+  /** Represents a tile with a value of 2097152. */
+  T2097152,
+
+  /** Represents a tile with a value of 4194304. */
+  T4194304,
+
+  /** Represents a tile with a value of 8388608. */
+  T8388608,
+
+  /** Represents a tile with a value of 16777216. */
+  T16777216,
+
+  /** Represents a tile with a value of 33554432. */
+  T33554432,
+
+  /** Represents a tile with a value of 67108864. */
+  T67108864,
+
+  /** Represents a tile with a value of 134217728. */
+  T134217728,
+
+  /** Represents a tile with a value of 268435456. */
+  T268435456,
+
+  /** Represents a tile with a value of 536870912. */
+  T536870912,
+
+  /** Represents a tile with a value of 1073741824. */
+  T1073741824,
+
+  /** Represents a tile with a value of 2147483648. */
+  T2147483648;
+
+  // Constant representing the probability of a specific tile value (T4)
+  // appearing. This value is used to determine the likelihood of a tile being
+  // assigned a value of 4.
+  private static final double T4_CHANCE = 0.75;
+
+  // Cached copy of values() so that lookups by exponent don't clone the array.
+  private static final TileValue[] VALUES = values();
+
+  // The exponent of the largest tile value.
+  public static final int MAX_EXPONENT = VALUES.length;
+
+  // Every value wrapped in an Optional once, indexed by exponent with a blank
+  // cell at index 0, so that reading a cell of the board allocates nothing.
+  private static final List<Optional<TileValue>> BY_EXPONENT = byExponent();
+
+  // The value as a string, built once so that rendering a tile doesn't format
+  // a number every time.
+  private final String label;
+
+  private TileValue() {
+    this.label = Long.toString(2L << this.ordinal());
+  }
+
+  /**
+   * Returns the value a tile takes on when it merges with an equal tile.
+   *
+   * @return The next power of two, or {@code null} if this is the largest tile
+   *         value.
+   */
+  public TileValue next() {
+    if (this.ordinal() + 1 == VALUES.length) {
+      return null;
+    }
+    return VALUES[this.ordinal() + 1];
+  }
+
+  /**
+   * Returns the integer value represented by this {@link TileValue}.
+   *
+   * <p>
+   * The value is determined by shifting 2 left by the ordinal position of
+   * the enum constant. This approach leverages the fact that the enum constants
+   * are ordered and their ordinal positions correspond to powers of two. It is
+   * a {@code long} because the largest value does not fit an {@code int}.
+   * </p>
+   *
+   * @return The integer value represented by this {@link TileValue}.
+   */
+  public long value() {
+    return 2L << this.ordinal();
+  }
+
+  /**
+   * Returns the exponent of this {@link TileValue}, i.e. the power of two it
+   * represents. A T2 has an exponent of 1 and a T2048 has an exponent of 11.
+   *
+   * @return The exponent of this {@link TileValue}.
+   */
+  public int exponent() {
+    return this.ordinal() + 1;
+  }
+
+  /**
+   * Converts an exponent, as stored in a packed board, into its corresponding
+   * {@link TileValue}. An exponent of 0 represents a blank cell.
+   *
+   * @pre 0 <= exponent <= MAX_EXPONENT
+   * @param exponent the power of two represented by the tile, or 0 for a blank
+   *                 cell
+   * @return an Optional containing the corresponding TileValue, or an empty
+   *         Optional if the exponent represents a blank cell
+   */
+  public static Optional<TileValue> fromExponent(int exponent) {
+    return BY_EXPONENT.get(exponent);
+  }
+
+  /**
+   * Wraps every value in an Optional, indexed by exponent.
+   *
+   * @return The Optional of every exponent, with an empty one at index 0.
+   */
+  private static List<Optional<TileValue>> byExponent() {
+    List<Optional<TileValue>> optionals = new ArrayList<>(VALUES.length + 1);
+
+    optionals.add(Optional.empty());
+    for (TileValue value : VALUES) {
+      optionals.add(Optional.of(value));
+    }
+    return List.copyOf(optionals);
+  }
+
+  @Override
+  public String toString() {
+    return this.label;
+  }
+
+  /**
+   * Randomly picks the value of a newly spawned tile using the random generator
+   * of the current thread. See {@link #random(RandomGenerator)}.
+   *
+   * @return Either TileValue.T4 or TileValue.T2.
+   */
+  public static TileValue random() {
+    return random(ThreadLocalRandom.current());
+  }
+
+  /**
+   * Randomly picks the value of a newly spawned tile. With a probability defined
+   * by T4_CHANCE, the value is TileValue.T4; otherwise, it is TileValue.T2.
+   *
+   * @param random the source of randomness, which lets a seeded generator
+   *               reproduce the same sequence of tiles
+   * @return Either TileValue.T4 or TileValue.T2.
+   */
+  public static TileValue random(RandomGenerator random) {
+    return random.nextDouble() > T4_CHANCE ? T4 : T2;
+  }
+
+  /**
+   * Converts a string representation of a tile value into its corresponding
+   * {@link TileValue} enum instance. A number that is not a power of two is
+   * rounded down to the power of two below it.
+   *
+   * @param value the string representation of the tile value
+   * @return an Optional containing the corresponding TileValue if the string is
+   *         valid, or an empty Optional otherwise
+   */
+  public static Optional<TileValue> fromString(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+
+    long parsed;
+    try {
+      parsed = Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      // Return an empty Optional if parsing fails
+      return Optional.empty();
+    }
+
+    if (parsed < 2) {
+      return Optional.empty();
+    }
+
+    // The position of the highest set bit is the log base 2, without the
+    // rounding errors of Math.log.
+    int exponent = Long.SIZE - 1 - Long.numberOfLeadingZeros(parsed);
+    if (exponent > MAX_EXPONENT) {
+      return Optional.empty();
+    }
+    return fromExponent(exponent);
+  }
+}
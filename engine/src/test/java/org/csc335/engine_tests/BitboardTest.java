@@ -0,0 +1,81 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.csc335.engine.Bitboard;
+import org.junit.jupiter.api.Test;
+
+public class BitboardTest {
+
+  @Test
+  public void testExponent() {
+    long board = Bitboard.EMPTY;
+
+    for (int r = 0; r < Bitboard.SIZE; r++) {
+      for (int c = 0; c < Bitboard.SIZE; c++) {
+        board = Bitboard.withExponent(board, r, c, r * Bitboard.SIZE + c);
+      }
+    }
+
+    for (int r = 0; r < Bitboard.SIZE; r++) {
+      for (int c = 0; c < Bitboard.SIZE; c++) {
+        assertEquals(r * Bitboard.SIZE + c, Bitboard.exponent(board, r, c));
+      }
+    }
+
+    // overwriting a cell should leave its neighbours alone
+    board = Bitboard.withExponent(board, 2, 1, 0);
+    assertEquals(0, Bitboard.exponent(board, 2, 1));
+    assertEquals(8, Bitboard.exponent(board, 2, 0));
+    assertEquals(10, Bitboard.exponent(board, 2, 2));
+  }
+
+  @Test
+  public void testRow() {
+    long board = Bitboard.withRow(Bitboard.EMPTY, 1, 0x4321);
+
+    assertEquals(0x4321, Bitboard.row(board, 1));
+    assertEquals(1, Bitboard.exponent(board, 1, 0));
+    assertEquals(4, Bitboard.exponent(board, 1, 3));
+    assertEquals(0, Bitboard.row(board, 0));
+    assertEquals(0, Bitboard.row(board, 2));
+
+    assertEquals(0x1234, Bitboard.reverseRow(0x4321));
+    assertEquals(0xF00A, Bitboard.reverseRow(0xA00F));
+  }
+
+  @Test
+  public void testTranspose() {
+    long board = 0xFEDCBA9876543210L;
+    long transposed = Bitboard.transpose(board);
+
+    for (int r = 0; r < Bitboard.SIZE; r++) {
+      for (int c = 0; c < Bitboard.SIZE; c++) {
+        assertEquals(Bitboard.exponent(board, r, c), Bitboard.exponent(transposed, c, r));
+      }
+    }
+
+    assertEquals(board, Bitboard.transpose(transposed));
+  }
+
+  @Test
+  public void testEmptyMask() {
+    assertEquals(Bitboard.ALL_CELLS, Bitboard.emptyMask(Bitboard.EMPTY));
+    assertEquals(0, Bitboard.emptyMask(0x1111111111111111L));
+
+    long board = Bitboard.withExponent(Bitboard.EMPTY, 0, 0, 8);
+    board = Bitboard.withExponent(board, 2, 3, 4);
+    board = Bitboard.withExponent(board, 3, 3, 15);
+    int expected = Bitboard.ALL_CELLS & ~(1 << 0) & ~(1 << 11) & ~(1 << 15);
+    assertEquals(expected, Bitboard.emptyMask(board));
+  }
+
+  @Test
+  public void testSelectBit() {
+    int mask = 0b1010_0110;
+    assertEquals(1, Bitboard.selectBit(mask, 0));
+    assertEquals(2, Bitboard.selectBit(mask, 1));
+    assertEquals(5, Bitboard.selectBit(mask, 2));
+    assertEquals(7, Bitboard.selectBit(mask, 3));
+  }
+}
@@ -0,0 +1,141 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.csc335.engine.Bitboard;
+import org.csc335.engine.Board;
+import org.csc335.engine.ByteBoard;
+import org.csc335.engine.NibbleBoard;
+import org.csc335.entity.Direction;
+import org.junit.jupiter.api.Test;
+
+public class ByteBoardTest {
+
+  @Test
+  public void testKnownLines() {
+    ByteBoard board = new ByteBoard(Board.MAX_SIZE);
+
+    // 2 2 2 _ 2 4 4 8 --> 4 4 8 8 _ _ _ _
+    int[] row = { 1, 1, 1, 0, 1, 2, 2, 3 };
+    for (int col = 0; col < row.length; col++) {
+      board.setExponent(5, col, row[col]);
+    }
+
+    assertTrue(board.shift(Direction.LEFT));
+    assertEquals(4 + 4 + 8, board.lastScore());
+
+    int[] expected = { 2, 2, 3, 3, 0, 0, 0, 0 };
+    for (int col = 0; col < expected.length; col++) {
+      assertEquals(expected[col], board.getExponent(5, col));
+    }
+
+    // the same row moved down the last column
+    assertTrue(board.shift(Direction.DOWN));
+    assertEquals(0, board.lastScore());
+    assertEquals(2, board.getExponent(7, 0));
+    assertEquals(3, board.getExponent(7, 3));
+    assertEquals(0, board.getExponent(5, 0));
+
+    // every tile already sits on the bottom edge
+    assertFalse(board.shift(Direction.DOWN));
+  }
+
+  @Test
+  public void testAgainstNibbleBoard() {
+    Random random = new Random(335);
+
+    for (int i = 0; i < 10000; i++) {
+      ByteBoard board = new ByteBoard(Bitboard.SIZE);
+      long bits = Bitboard.EMPTY;
+      for (int cell = 0; cell < Bitboard.SIZE * Bitboard.SIZE; cell++) {
+        // keep plenty of blanks and small values so merges are common
+        int exponent = random.nextInt(3) == 0 ? 0 : random.nextInt(4) + 1;
+        bits = Bitboard.withExponent(bits, cell / Bitboard.SIZE, cell % Bitboard.SIZE, exponent);
+        board.setExponent(cell / Bitboard.SIZE, cell % Bitboard.SIZE, exponent);
+      }
+
+      NibbleBoard reference = new NibbleBoard(bits);
+      assertEquals(reference.legalMoves(), board.legalMoves());
+      assertEquals(reference.emptyMask(), board.emptyMask());
+
+      for (Direction d : Direction.values()) {
+        NibbleBoard expected = new NibbleBoard(bits);
+        ByteBoard moved = new ByteBoard(Bitboard.SIZE);
+        for (int r = 0; r < Bitboard.SIZE; r++) {
+          for (int c = 0; c < Bitboard.SIZE; c++) {
+            moved.setExponent(r, c, board.getExponent(r, c));
+          }
+        }
+
+        assertEquals(expected.shift(d), moved.shift(d));
+        assertEquals(expected.lastScore(), moved.lastScore());
+        for (int r = 0; r < Bitboard.SIZE; r++) {
+          for (int c = 0; c < Bitboard.SIZE; c++) {
+            assertEquals(expected.getExponent(r, c), moved.getExponent(r, c));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLargestExponentDoesNotMerge() {
+    ByteBoard board = new ByteBoard(Board.MIN_SIZE);
+    board.setExponent(0, 0, board.maxExponent());
+    board.setExponent(0, 1, board.maxExponent());
+
+    assertEquals(Direction.RIGHT.mask() | Direction.DOWN.mask(), board.legalMoves());
+    assertFalse(board.shift(Direction.LEFT));
+  }
+
+  @Test
+  public void testEmptyMask() {
+    ByteBoard board = new ByteBoard(Board.MAX_SIZE);
+    assertEquals(-1L, board.emptyMask());
+
+    board.setExponent(7, 7, 1);
+    assertEquals(Long.MAX_VALUE, board.emptyMask());
+
+    board.clear();
+    assertEquals(-1L, board.emptyMask());
+  }
+
+  @Test
+  public void testEmptyMaskFollowsMoves() {
+    Random random = new Random(335);
+
+    for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++) {
+      ByteBoard board = new ByteBoard(size);
+      for (int i = 0; i < 500; i++) {
+        board.setExponent(random.nextInt(size), random.nextInt(size), random.nextInt(3));
+        board.shift(Direction.values()[random.nextInt(Direction.values().length)]);
+
+        // the mask kept up by the moves matches a walk over the cells
+        long expected = 0L;
+        for (int cell = 0; cell < size * size; cell++) {
+          if (board.getExponent(cell / size, cell % size) == 0) {
+            expected |= 1L << cell;
+          }
+        }
+        assertEquals(expected, board.emptyMask());
+        assertEquals(expected, board.copy().emptyMask());
+      }
+    }
+  }
+
+  @Test
+  public void testSizes() {
+    assertTrue(Board.of(Bitboard.SIZE) instanceof NibbleBoard);
+    for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++) {
+      assertEquals(size, Board.of(size).size());
+    }
+
+    assertThrows(IllegalArgumentException.class, () -> Board.of(Board.MIN_SIZE - 1));
+    assertThrows(IllegalArgumentException.class, () -> Board.of(Board.MAX_SIZE + 1));
+  }
+}
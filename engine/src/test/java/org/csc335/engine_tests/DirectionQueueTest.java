@@ -0,0 +1,80 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.csc335.engine.DirectionQueue;
+import org.csc335.entity.Direction;
+import org.junit.jupiter.api.Test;
+
+public class DirectionQueueTest {
+
+  @Test
+  public void testKeepsOrder() {
+    DirectionQueue queue = new DirectionQueue(3, 0);
+    assertTrue(queue.isEmpty());
+    assertNull(queue.poll());
+
+    // Wrap around the ring a few times.
+    Direction[] directions = Direction.values();
+    for (int i = 0; i < 10; i++) {
+      assertTrue(queue.offer(directions[i % 4], false, i));
+      assertTrue(queue.offer(directions[(i + 1) % 4], false, i));
+      assertEquals(2, queue.size());
+      assertEquals(directions[i % 4], queue.poll());
+      assertEquals(directions[(i + 1) % 4], queue.poll());
+      assertTrue(queue.isEmpty());
+    }
+  }
+
+  @Test
+  public void testFullQueueRefusesPresses() {
+    DirectionQueue queue = new DirectionQueue(2, 0);
+    assertTrue(queue.offer(Direction.UP, false, 0));
+    assertTrue(queue.offer(Direction.LEFT, false, 1));
+    assertTrue(queue.isFull());
+
+    // A pressed key is handed back rather than lost, while a repeat is dropped.
+    assertFalse(queue.offer(Direction.DOWN, false, 2));
+    assertTrue(queue.offer(Direction.DOWN, true, 3));
+    assertEquals(2, queue.size());
+
+    assertEquals(Direction.UP, queue.poll());
+    assertTrue(queue.offer(Direction.DOWN, false, 4));
+    assertEquals(Direction.LEFT, queue.poll());
+    assertEquals(Direction.DOWN, queue.poll());
+  }
+
+  @Test
+  public void testCoalescesRepeats() {
+    DirectionQueue queue = new DirectionQueue(8, 100);
+
+    assertTrue(queue.offer(Direction.RIGHT, false, 1000));
+
+    // Repeats arriving faster than once every 100 ns are coalesced.
+    assertTrue(queue.offer(Direction.RIGHT, true, 1030));
+    assertTrue(queue.offer(Direction.RIGHT, true, 1060));
+    assertEquals(1, queue.size());
+
+    assertTrue(queue.offer(Direction.RIGHT, true, 1100));
+    assertEquals(2, queue.size());
+
+    // Pressed keys are never coalesced, however close together.
+    assertTrue(queue.offer(Direction.UP, false, 1101));
+    assertTrue(queue.offer(Direction.UP, false, 1102));
+    assertEquals(4, queue.size());
+
+    queue.clear();
+    assertTrue(queue.isEmpty());
+    assertNull(queue.poll());
+  }
+
+  @Test
+  public void testInvalidQueue() {
+    assertThrows(IllegalArgumentException.class, () -> new DirectionQueue(0, 0));
+    assertThrows(IllegalArgumentException.class, () -> new DirectionQueue(4, -1));
+  }
+}
@@ -0,0 +1,85 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.csc335.engine.BoardSnapshot;
+import org.csc335.engine.EngineThread;
+import org.csc335.engine.GameEngine;
+import org.csc335.engine.MoveResult;
+import org.csc335.entity.Direction;
+import org.junit.jupiter.api.Test;
+
+public class EngineThreadTest {
+
+  @Test
+  public void testPublishesSnapshots() throws InterruptedException {
+    GameEngine engine = new GameEngine(335L);
+    engine.clear();
+    engine.setExponent(0, 0, 1);
+
+    BlockingQueue<BoardSnapshot> snapshots = new LinkedBlockingQueue<>();
+    BlockingQueue<Optional<MoveResult>> moves = new LinkedBlockingQueue<>();
+    try (EngineThread thread = new EngineThread(engine, (snapshot, move) -> {
+      snapshots.add(snapshot);
+      moves.add(Optional.ofNullable(move));
+    })) {
+      thread.move(Direction.RIGHT);
+      BoardSnapshot first = snapshots.poll(5, TimeUnit.SECONDS);
+
+      assertEquals(1, first.getSequence());
+      assertEquals(1, first.getMoves());
+      assertEquals(Direction.RIGHT, moves.poll(5, TimeUnit.SECONDS).get().getDirection());
+      assertEquals(1, first.getExponent(0, 3));
+      assertEquals(14, Long.bitCount(first.copyBoard().emptyMask()));
+
+      // Later moves leave earlier snapshots as they were.
+      thread.reset();
+      BoardSnapshot reset = snapshots.poll(5, TimeUnit.SECONDS);
+
+      assertEquals(2, reset.getSequence());
+      assertEquals(0, reset.getMoves());
+      assertEquals(Optional.empty(), moves.poll(5, TimeUnit.SECONDS));
+      assertEquals(1, first.getExponent(0, 3));
+      assertEquals(1, first.getMoves());
+    }
+  }
+
+  @Test
+  public void testKeepsOrder() throws InterruptedException {
+    GameEngine engine = new GameEngine(4, 335L);
+    GameEngine replay = new GameEngine(4, 335L);
+
+    BlockingQueue<BoardSnapshot> snapshots = new LinkedBlockingQueue<>();
+    try (EngineThread thread = new EngineThread(engine, (snapshot, move) -> snapshots.add(snapshot))) {
+      Direction[] directions = { Direction.LEFT, Direction.UP, Direction.RIGHT, Direction.DOWN };
+      int published = 0;
+      for (int i = 0; i < 200; i++) {
+        Direction direction = directions[i % 4];
+        thread.move(direction);
+        if (replay.move(direction)) {
+          published++;
+        }
+      }
+
+      // Only moves that change the board publish, one snapshot each, in order,
+      // after the one the engine published when it was created.
+      BoardSnapshot last = null;
+      for (int i = 1; i <= published; i++) {
+        last = snapshots.poll(5, TimeUnit.SECONDS);
+        assertEquals(i, last.getSequence());
+      }
+
+      assertEquals(replay.getMoves(), last.getMoves());
+      assertEquals(replay.getScore(), last.getScore());
+      assertEquals(replay.getLegalMoves(), last.getLegalMoves());
+      assertEquals(replay.getBoard(), last.copyBoard());
+      assertSame(last, engine.getPublishedSnapshot());
+    }
+  }
+}
@@ -0,0 +1,276 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.csc335.engine.BatchResult;
+import org.csc335.engine.Board;
+import org.csc335.engine.BoardSnapshot;
+import org.csc335.engine.GameEngine;
+import org.csc335.engine.NibbleBoard;
+import org.csc335.engine.SpawnSource;
+import org.csc335.entity.Direction;
+import org.csc335.entity.TileValue;
+import org.junit.jupiter.api.Test;
+
+public class GameEngineTest {
+
+  @Test
+  public void testReset() {
+    GameEngine engine = new GameEngine(335L);
+
+    assertEquals(14, Long.bitCount(engine.getEmptyTiles()));
+    assertEquals(engine.getBoard().emptyMask(), engine.getEmptyTiles());
+    assertEquals(0, engine.getScore());
+    assertEquals(0, engine.getMoves());
+  }
+
+  @Test
+  public void testMove() {
+    GameEngine engine = new GameEngine(335L);
+
+    // 2 2 _ _
+    engine.clear();
+    engine.setExponent(0, 0, 1);
+    engine.setExponent(0, 1, 1);
+
+    assertTrue(engine.move(Direction.LEFT));
+    assertEquals(2, engine.getExponent(0, 0));
+    assertEquals(4, engine.getScore());
+    assertEquals(4, engine.getLastScore());
+    assertEquals(1, engine.getMoves());
+
+    // the merged tile and the spawned tile are the only ones on the board
+    assertEquals(14, Long.bitCount(engine.getEmptyTiles()));
+    assertEquals(engine.getBoard().emptyMask(), engine.getEmptyTiles());
+  }
+
+  @Test
+  public void testShiftWithoutChange() {
+    GameEngine engine = new GameEngine(335L);
+    engine.clear();
+    engine.setExponent(0, 0, 1);
+
+    assertFalse(engine.shift(Direction.LEFT));
+    assertFalse(engine.shift(Direction.UP));
+    assertEquals(0, engine.getMoves());
+
+    assertTrue(engine.shift(Direction.RIGHT));
+    assertEquals(1, engine.getExponent(0, 3));
+    assertEquals(engine.getBoard().emptyMask(), engine.getEmptyTiles());
+  }
+
+  @Test
+  public void testLargeBoard() {
+    GameEngine engine = new GameEngine(Board.MAX_SIZE, 335L);
+
+    assertEquals(Board.MAX_SIZE, engine.getSize());
+    assertEquals(Board.MAX_SIZE * Board.MAX_SIZE - 2, Long.bitCount(engine.getEmptyTiles()));
+
+    // Play until the board fills up, checking the mask of blank cells on the way.
+    Direction[] directions = Direction.values();
+    for (int i = 0; !engine.isGameOver() && i < 10000; i++) {
+      engine.move(directions[i % directions.length]);
+      assertEquals(engine.getBoard().emptyMask(), engine.getEmptyTiles());
+    }
+  }
+
+  @Test
+  public void testTilesBeyond32768() {
+    GameEngine engine = new GameEngine(335L);
+    engine.clear();
+    engine.setExponent(0, 0, 14);
+    engine.setExponent(0, 1, 14);
+
+    // 16384 16384 --> 32768, the largest tile of a packed 4x4 board
+    assertTrue(engine.shift(Direction.LEFT));
+    assertEquals(15, engine.getExponent(0, 0));
+    assertFalse(engine.getBoard() instanceof NibbleBoard);
+
+    // 32768 32768 --> 65536
+    engine.setExponent(0, 1, 15);
+    assertTrue(engine.shift(Direction.LEFT));
+    assertEquals(16, engine.getExponent(0, 0));
+    assertEquals(32768 + 65536, engine.getScore());
+
+    // the largest tiles still don't merge
+    engine.clear();
+    engine.setExponent(0, 0, TileValue.MAX_EXPONENT);
+    engine.setExponent(0, 1, TileValue.MAX_EXPONENT);
+    assertFalse(engine.shift(Direction.LEFT));
+
+    // a new game goes back to the packed board
+    engine.reset();
+    assertTrue(engine.getBoard() instanceof NibbleBoard);
+  }
+
+  @Test
+  public void testApplyMovesMatchesSingleMoves() {
+    GameEngine batch = new GameEngine(335L);
+    GameEngine single = new GameEngine(335L);
+
+    Direction[] directions = new Direction[50000];
+    for (int i = 0; i < directions.length; i++) {
+      directions[i] = Direction.values()[(i * 7 + i / 3) % 4];
+    }
+
+    BatchResult result = batch.applyMoves(directions);
+
+    int gameOverIndex = BatchResult.NOT_OVER;
+    for (int i = 0; i < directions.length; i++) {
+      if (single.isGameOver()) {
+        gameOverIndex = i;
+        break;
+      }
+      single.move(directions[i]);
+    }
+
+    assertEquals(single.getBoard(), result.getBoard());
+    assertEquals(single.getScore(), result.getScore());
+    assertEquals(single.getMoves(), result.getMovesApplied());
+    assertEquals(gameOverIndex, result.getGameOverIndex());
+    assertTrue(result.isGameOver());
+  }
+
+  @Test
+  public void testApplyMoveCodes() {
+    GameEngine engine = new GameEngine(335L);
+    engine.clear();
+    engine.setExponent(0, 0, 1);
+    engine.setExponent(0, 1, 1);
+
+    // spawn every tile as a 2 in the first blank cell
+    SpawnSource spawns = new SpawnSource() {
+      @Override
+      public int nextCell(long emptyTiles) {
+        return Long.numberOfTrailingZeros(emptyTiles);
+      }
+
+      @Override
+      public int nextExponent() {
+        return 1;
+      }
+    };
+
+    byte[] codes = { Direction.LEFT.code(), Direction.LEFT.code(), Direction.UP.code() };
+    BatchResult result = engine.applyMoves(codes, spawns);
+
+    // 2 2 --> 4 [2] --> 4 2 stays put, UP changes nothing either
+    assertEquals(1, result.getMovesApplied());
+    assertEquals(4, result.getScore());
+    assertEquals(BatchResult.NOT_OVER, result.getGameOverIndex());
+    assertEquals(2, result.getBoard().getExponent(0, 0));
+    assertEquals(1, result.getBoard().getExponent(0, 1));
+
+    // the result is a copy that later moves leave alone
+    engine.move(Direction.RIGHT);
+    assertEquals(2, result.getBoard().getExponent(0, 0));
+
+    assertThrows(IllegalArgumentException.class, () -> engine.applyMoves(new byte[] { 4 }, spawns));
+  }
+
+  @Test
+  public void testApplyMovesAfterGameOver() {
+    GameEngine engine = new GameEngine(335L);
+    engine.clear();
+    for (int r = 0; r < 4; r++) {
+      for (int c = 0; c < 4; c++) {
+        engine.setExponent(r, c, (r + c) % 2 + 1);
+      }
+    }
+
+    BatchResult result = engine.applyMoves(Direction.values());
+    assertEquals(0, result.getGameOverIndex());
+    assertEquals(0, result.getMovesApplied());
+  }
+
+  @Test
+  public void testPublishedSnapshot() {
+    GameEngine engine = new GameEngine(335L);
+    BoardSnapshot first = engine.getPublishedSnapshot();
+    assertEquals(0, first.getSequence());
+    assertEquals(engine.getBoard(), first.copyBoard());
+
+    // Moves are only seen by other threads once they are published.
+    Board before = engine.getBoard().copy();
+    for (Direction direction : Direction.values()) {
+      engine.move(direction);
+    }
+    assertSame(first, engine.getPublishedSnapshot());
+    assertEquals(before, first.copyBoard());
+
+    BoardSnapshot second = engine.publish();
+    assertSame(second, engine.getPublishedSnapshot());
+    assertEquals(1, second.getSequence());
+    assertEquals(engine.getBoard(), second.copyBoard());
+    assertEquals(engine.getMoves(), second.getMoves());
+    assertEquals(engine.getScore(), second.getScore());
+  }
+
+  @Test
+  public void testSnapshotsReadWhilePlaying() throws InterruptedException {
+    GameEngine engine = new GameEngine(4, 335L);
+    AtomicBoolean done = new AtomicBoolean();
+    AtomicReference<AssertionError> failure = new AtomicReference<>();
+    Thread[] readers = new Thread[3];
+
+    // Every snapshot is published after a move that changed the board, so a
+    // consistent snapshot has made as many moves as snapshots came before it.
+    for (int i = 0; i < readers.length; i++) {
+      readers[i] = new Thread(() -> {
+        long last = 0;
+        while (!done.get() && failure.get() == null) {
+          BoardSnapshot snapshot = engine.getPublishedSnapshot();
+          try {
+            assertTrue(snapshot.getSequence() >= last);
+            assertEquals(snapshot.getSequence(), snapshot.getMoves());
+            assertEquals(snapshot.getLegalMoves(), snapshot.copyBoard().legalMoves());
+          } catch (AssertionError e) {
+            failure.compareAndSet(null, e);
+          }
+          last = snapshot.getSequence();
+        }
+      });
+      readers[i].start();
+    }
+
+    Direction[] directions = { Direction.LEFT, Direction.UP, Direction.RIGHT, Direction.DOWN };
+    for (int i = 0; i < 1000 && !engine.isGameOver(); i++) {
+      if (engine.move(directions[i % 4])) {
+        engine.publish();
+      }
+    }
+    done.set(true);
+    for (Thread reader : readers) {
+      reader.join(5000);
+    }
+
+    if (failure.get() != null) {
+      throw failure.get();
+    }
+  }
+
+  @Test
+  public void testSeededGamesMatch() {
+    GameEngine game1 = new GameEngine(335L);
+    GameEngine game2 = new GameEngine(335L);
+
+    Direction[] directions = Direction.values();
+    for (int i = 0; i < 200; i++) {
+      assertEquals(game1.getBoard(), game2.getBoard());
+
+      Direction d = directions[i % directions.length];
+      game1.move(d);
+      game2.move(d);
+    }
+
+    assertEquals(game1.getScore(), game2.getScore());
+    assertEquals(game1.isGameOver(), game2.isGameOver());
+  }
+}
@@ -0,0 +1,167 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+
+import org.csc335.engine.Bitboard;
+import org.csc335.engine.MoveEngine;
+import org.csc335.entity.Direction;
+import org.junit.jupiter.api.Test;
+
+public class MoveEngineTest {
+
+  @Test
+  public void testKnownRows() {
+    // 2 2 2 2 --> 4 4 _ _
+    long board = Bitboard.withRow(Bitboard.EMPTY, 0, 0x1111);
+    assertEquals(0x0022, Bitboard.row(MoveEngine.move(board, Direction.LEFT), 0));
+    assertEquals(0x2200, Bitboard.row(MoveEngine.move(board, Direction.RIGHT), 0));
+    assertEquals(8, MoveEngine.score(board, Direction.LEFT));
+
+    // 4 _ 2 2 --> 4 4 _ _, the new 4 must not merge again
+    board = Bitboard.withRow(Bitboard.EMPTY, 0, 0x1102);
+    assertEquals(0x0022, Bitboard.row(MoveEngine.move(board, Direction.LEFT), 0));
+    assertEquals(4, MoveEngine.score(board, Direction.LEFT));
+
+    // a full row with no equal neighbours cannot move
+    board = Bitboard.withRow(Bitboard.EMPTY, 0, 0x1212);
+    assertEquals(board, MoveEngine.move(board, Direction.LEFT));
+    assertEquals(board, MoveEngine.move(board, Direction.RIGHT));
+    assertEquals(0, MoveEngine.flags(0x1212));
+    assertEquals(MoveEngine.CHANGED_RIGHT, MoveEngine.flags(0x0012));
+  }
+
+  @Test
+  public void testAgainstReference() {
+    Random random = new Random(335);
+
+    for (int i = 0; i < 10000; i++) {
+      long board = Bitboard.EMPTY;
+      for (int cell = 0; cell < Bitboard.SIZE * Bitboard.SIZE; cell++) {
+        // keep plenty of blanks and small values so merges are common
+        int exponent = random.nextInt(3) == 0 ? 0 : random.nextInt(4) + 1;
+        board = Bitboard.withExponent(board, cell / Bitboard.SIZE, cell % Bitboard.SIZE, exponent);
+      }
+
+      for (Direction d : Direction.values()) {
+        int[][] grid = toGrid(board);
+        int score = referenceMove(grid, d);
+
+        long moved = MoveEngine.move(board, d);
+        assertEquals(score, MoveEngine.score(board, d));
+        for (int r = 0; r < Bitboard.SIZE; r++) {
+          for (int c = 0; c < Bitboard.SIZE; c++) {
+            assertEquals(grid[r][c], Bitboard.exponent(moved, r, c));
+          }
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testLargestExponentDoesNotMerge() {
+    long board = Bitboard.withRow(Bitboard.EMPTY, 0, 0xFF00);
+
+    long moved = MoveEngine.move(board, Direction.LEFT);
+    assertEquals(0x00FF, Bitboard.row(moved, 0));
+    assertTrue(MoveEngine.score(board, Direction.LEFT) == 0);
+  }
+
+  @Test
+  public void testLegalMoves() {
+    // a single tile in the top-left corner can only move right or down
+    long board = Bitboard.withExponent(Bitboard.EMPTY, 0, 0, 1);
+    assertEquals(Direction.RIGHT.mask() | Direction.DOWN.mask(), MoveEngine.legalMoves(board));
+
+    // a full checkerboard cannot move at all
+    board = 0x1212212112122121L;
+    assertEquals(0, MoveEngine.legalMoves(board));
+
+    // two equal tiles stacked in a full board only allow vertical moves
+    board = Bitboard.withExponent(Bitboard.withExponent(board, 0, 0, 3), 1, 0, 3);
+    assertEquals(Direction.UP.mask() | Direction.DOWN.mask(), MoveEngine.legalMoves(board));
+
+    // the mask agrees with actually moving the board
+    Random random = new Random(2048);
+    for (int i = 0; i < 10000; i++) {
+      board = random.nextLong() & 0x3333333333333333L;
+      int mask = MoveEngine.legalMoves(board);
+      for (Direction d : Direction.values()) {
+        assertEquals((mask & d.mask()) != 0, MoveEngine.move(board, d) != board);
+      }
+    }
+  }
+
+  private int[][] toGrid(long board) {
+    int[][] grid = new int[Bitboard.SIZE][Bitboard.SIZE];
+    for (int r = 0; r < Bitboard.SIZE; r++) {
+      for (int c = 0; c < Bitboard.SIZE; c++) {
+        grid[r][c] = Bitboard.exponent(board, r, c);
+      }
+    }
+    return grid;
+  }
+
+  // Moves a plain grid of exponents one line at a time, reading each line from
+  // the edge the tiles move towards.
+  private int referenceMove(int[][] grid, Direction d) {
+    int score = 0;
+    for (int line = 0; line < Bitboard.SIZE; line++) {
+      int[] cells = new int[Bitboard.SIZE];
+      int count = 0;
+      boolean lastMerged = false;
+
+      for (int k = 0; k < Bitboard.SIZE; k++) {
+        int value = get(grid, d, line, k);
+        if (value == 0) {
+          continue;
+        }
+        if (count > 0 && !lastMerged && cells[count - 1] == value) {
+          cells[count - 1]++;
+          score += 1 << cells[count - 1];
+          lastMerged = true;
+        } else {
+          cells[count++] = value;
+          lastMerged = false;
+        }
+      }
+
+      for (int k = 0; k < Bitboard.SIZE; k++) {
+        set(grid, d, line, k, cells[k]);
+      }
+    }
+    return score;
+  }
+
+  private int get(int[][] grid, Direction d, int line, int k) {
+    switch (d) {
+      case LEFT:
+        return grid[line][k];
+      case RIGHT:
+        return grid[line][Bitboard.SIZE - 1 - k];
+      case UP:
+        return grid[k][line];
+      default:
+        return grid[Bitboard.SIZE - 1 - k][line];
+    }
+  }
+
+  private void set(int[][] grid, Direction d, int line, int k, int value) {
+    switch (d) {
+      case LEFT:
+        grid[line][k] = value;
+        break;
+      case RIGHT:
+        grid[line][Bitboard.SIZE - 1 - k] = value;
+        break;
+      case UP:
+        grid[k][line] = value;
+        break;
+      default:
+        grid[Bitboard.SIZE - 1 - k][line] = value;
+        break;
+    }
+  }
+}
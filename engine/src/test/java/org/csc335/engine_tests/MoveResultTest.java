@@ -0,0 +1,146 @@
+package org.csc335.engine_tests;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+
+import org.csc335.engine.Bitboard;
+import org.csc335.engine.Board;
+import org.csc335.engine.ByteBoard;
+import org.csc335.engine.GameEngine;
+import org.csc335.engine.MoveResult;
+import org.csc335.engine.NibbleBoard;
+import org.csc335.entity.Direction;
+import org.junit.jupiter.api.Test;
+
+public class MoveResultTest {
+
+  @Test
+  public void testKnownRow() {
+    // _ 2 2 4 --> 4 4 _ _
+    NibbleBoard board = new NibbleBoard(Bitboard.withRow(Bitboard.EMPTY, 1, 0x2110));
+    MoveResult result = new MoveResult();
+
+    assertTrue(board.shift(Direction.LEFT, result));
+    assertEquals(Direction.LEFT, result.getDirection());
+    assertEquals(4, result.getScore());
+    assertEquals(3, result.getSlideCount());
+
+    // both 2s land on (1, 0) and merge there, the 4 slides to (1, 1)
+    assertEquals(Set.of("5->4", "6->4", "7->5"), slides(result));
+    assertEquals(1L << 4, result.getMerges());
+    assertTrue(result.isMerged(4));
+    assertEquals(0xF0L, result.changedCells());
+    assertEquals(MoveResult.NO_CELL, result.getSpawnedCell());
+
+    // a move that changes nothing leaves an empty record
+    board = new NibbleBoard(Bitboard.withRow(Bitboard.EMPTY, 0, 0x0021));
+    assertFalse(board.shift(Direction.LEFT, result));
+    assertFalse(result.isChanged());
+    assertEquals(0, result.getSlideCount());
+    assertEquals(0L, result.getMerges());
+    assertEquals(0L, result.changedCells());
+  }
+
+  @Test
+  public void testDescribesTheMove() {
+    Random random = new Random(335);
+    MoveResult result = new MoveResult();
+    MoveResult byteResult = new MoveResult();
+
+    for (int i = 0; i < 5000; i++) {
+      for (int size = Board.MIN_SIZE; size <= Board.MAX_SIZE; size++) {
+        Board before = Board.of(size);
+        for (int r = 0; r < size; r++) {
+          for (int c = 0; c < size; c++) {
+            // keep plenty of blanks and small values so merges are common
+            before.setExponent(r, c, random.nextInt(3) == 0 ? 0 : random.nextInt(4) + 1);
+          }
+        }
+
+        for (Direction d : Direction.values()) {
+          Board moved = before.copy();
+          moved.shift(d, result);
+          assertMatches(before, moved, result);
+          // every cell that changed is listed, among a few that got an equal tile
+          assertEquals(0L, diff(before, moved) & ~result.changedCells());
+
+          // the byte per cell board describes the move the same way
+          ByteBoard bytes = new ByteBoard(before);
+          bytes.shift(d, byteResult);
+          assertEquals(slides(result), slides(byteResult));
+          assertEquals(result.getMerges(), byteResult.getMerges());
+          assertEquals(result.getScore(), byteResult.getScore());
+        }
+      }
+    }
+  }
+
+  @Test
+  public void testSpawnIsRecorded() {
+    GameEngine engine = new GameEngine(335L);
+    MoveResult result = new MoveResult();
+    engine.clear();
+    engine.setExponent(0, 0, 1);
+
+    assertTrue(engine.move(Direction.RIGHT, result));
+    assertEquals(Set.of("0->3"), slides(result));
+
+    int cell = result.getSpawnedCell();
+    assertTrue(cell != MoveResult.NO_CELL && cell != 3);
+    assertEquals(result.getSpawnedExponent(), engine.getExponent(cell / 4, cell % 4));
+    assertEquals((1L << 0) | (1L << 3) | (1L << cell), result.changedCells());
+  }
+
+  // Replays the recorded slides on the board before the move and checks that
+  // they produce the board after it.
+  private void assertMatches(Board before, Board after, MoveResult result) {
+    int size = before.size();
+    int[] cells = new int[size * size];
+    for (int cell = 0; cell < cells.length; cell++) {
+      cells[cell] = before.getExponent(cell / size, cell % size);
+    }
+
+    int[] moving = new int[cells.length];
+    for (int i = 0; i < result.getSlideCount(); i++) {
+      moving[result.getSource(i)] = cells[result.getSource(i)];
+      cells[result.getSource(i)] = 0;
+    }
+    for (int i = 0; i < result.getSlideCount(); i++) {
+      cells[result.getDestination(i)] = moving[result.getSource(i)];
+    }
+    for (int cell = 0; cell < cells.length; cell++) {
+      if (result.isMerged(cell)) {
+        cells[cell]++;
+      }
+    }
+
+    for (int cell = 0; cell < cells.length; cell++) {
+      assertEquals(after.getExponent(cell / size, cell % size), cells[cell]);
+    }
+  }
+
+  // Computes the mask of cells that hold a different exponent on both boards.
+  private long diff(Board before, Board after) {
+    int size = before.size();
+    long cells = 0L;
+    for (int cell = 0; cell < size * size; cell++) {
+      if (before.getExponent(cell / size, cell % size) != after.getExponent(cell / size, cell % size)) {
+        cells |= 1L << cell;
+      }
+    }
+    return cells;
+  }
+
+  private Set<String> slides(MoveResult result) {
+    Set<String> slides = new TreeSet<>();
+    for (int i = 0; i < result.getSlideCount(); i++) {
+      slides.add(result.getSource(i) + "->" + result.getDestination(i));
+    }
+    return slides;
+  }
+}
@@ -19,4 +19,13 @@ public class DirectionTest {
     assertEquals(Direction.LEFT, Direction.fromVal("A"));
     assertEquals(null, Direction.fromVal("n/a"));
   }
+
+  @Test
+  public void codeTest() {
+    for (Direction d : Direction.values()) {
+      assertEquals(d, Direction.fromCode(d.code()));
+    }
+    assertEquals(null, Direction.fromCode((byte) -1));
+    assertEquals(null, Direction.fromCode((byte) Direction.values().length));
+  }
 }
@@ -19,6 +19,23 @@ public class TileValueTest {
         }
     }
 
+    @Test
+    public void beyond2048Test() {
+        assertEquals(TileValue.T4096, TileValue.T2048.next());
+        assertEquals(131072L, TileValue.T131072.value());
+        assertEquals(1L << 31, TileValue.T2147483648.value());
+        assertEquals(TileValue.MAX_EXPONENT, TileValue.T2147483648.exponent());
+
+        // the largest value has nothing to merge into
+        assertNull(TileValue.T2147483648.next());
+
+        for (TileValue t : TileValue.values()) {
+            assertEquals(Long.toString(t.value()), t.toString());
+            assertEquals(t, TileValue.fromExponent(t.exponent()).get());
+        }
+        assertEquals(Optional.empty(), TileValue.fromExponent(0));
+    }
+
     @Test
     public void fromStringTest() {
         // regular case
@@ -28,7 +45,7 @@ public class TileValueTest {
         
         // when argument passed in is invalid
         for (int i = -1; i < 4100; i++) {
-            if (i > 1 && i < 4096) {
+            if (i > 1) {
                 assertFalse(TileValue.fromString(i + "").isEmpty());
             } else {
                 System.out.println(TileValue.fromString(i + ""));
@@ -36,6 +53,13 @@ public class TileValueTest {
             }
         }
 
+        // numbers that are not powers of two round down
+        assertEquals(TileValue.T2048, TileValue.fromString("4095").get());
+
+        // the largest value, and the first one past it
+        assertEquals(TileValue.T2147483648, TileValue.fromString("2147483648").get());
+        assertEquals(Optional.empty(), TileValue.fromString("4294967296"));
+
         assertEquals(Optional.empty(), TileValue.fromString("1"));
         assertEquals(Optional.empty(), TileValue.fromString("a"));
     }